@@ -1,11 +1,56 @@
+struct InputSplit {
+    1: string fileName,
+    2: i64 offset,
+    3: i64 length,
+    4: i32 taskId,
+}
+
+struct MapTask {
+    1: string jobId,
+    2: InputSplit split,
+}
+
+struct SentimentResult {
+    1: string fileName,
+    2: i64 numPos,
+    3: i64 numNeg,
+    4: i64 numTokens,
+    5: i32 taskId,
+    6: string intermediateFile,
+    7: bool cached,
+}
+
+struct JobStatus {
+    1: string jobId,
+    2: string phase,
+    3: i32 mapTasksCount,
+    4: i32 mapTasksComplete,
+}
+
+struct NodeLoad {
+    1: i32 queueDepth,
+    2: i32 activeTasks,
+    3: i32 workerThreads,
+    4: i32 queueSize,
+    5: double avgLatency,
+}
+
 service SentimentAnalyzerService {
     bool ping(),
     string getSentiments(1: list<string> fileNames),
-    void returnSentimentResult(1:string fileName),
+    string submitJob(1: list<string> fileNames),
+    JobStatus getJobStatus(1: string jobId),
+    string getJobResult(1: string jobId),
+    void returnSentimentResult(1: string jobId, 2: SentimentResult result),
+    void returnSentimentResults(1: string jobId, 2: list<SentimentResult> results),
+    list<MapTask> fetchTasks(1: string nodeId, 2: i32 maxTasks),
 }
 
 service ComputeService {
     bool ping(),
-    bool mapTask(1: string fileName),
-    string sortTask(1: list<string> fileNames),
+    bool mapTask(1: string jobId, 2: InputSplit split),
+    list<i32> mapTasks(1: string jobId, 2: list<InputSplit> splits),
+    bool offerMapTask(1: string jobId, 2: InputSplit split),
+    NodeLoad getLoad(),
+    string sortTask(1: string jobId, 2: list<string> fileNames, 3: list<SentimentResult> results, 4: i32 limit),
 }
\ No newline at end of file
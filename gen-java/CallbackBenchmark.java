@@ -0,0 +1,151 @@
+import org.apache.thrift.TException;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TTransport;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CallbackBenchmark {
+    private static final int[] TASK_COUNTS = {1000, 10000, 100000};
+
+    /**
+     * measure how many map result callbacks per second each kind of server takes when many
+     * compute connections call back at once. every task is one returnSentimentResult call,
+     * spread over the given number of concurrent connections, to a server that only counts them.
+     * uses the rpc.protocol and selector/worker settings of sentiment.cfg over the FRAMED transport.
+     *
+     * @param args [connections, default 256] [first port, default 9190]
+     */
+    public static void main(String[] args) {
+        try {
+            Properties prop = new Properties();
+            InputStream is = new FileInputStream("sentiment.cfg");
+            prop.load(is);
+            int connections = args.length > 0 ? Integer.valueOf(args[0]) : 256;
+            int port = args.length > 1 ? Integer.valueOf(args[1]) : 9190;
+            prop.setProperty("rpc.transport", "FRAMED");
+            prop.setProperty("rpc.compression", "false");
+            for (RpcSettings.ServerType serverType : RpcSettings.ServerType.values()) {
+                prop.setProperty("rpc.server", serverType.name());
+                run(RpcSettings.fromConfig(prop), port++, connections);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void run(RpcSettings rpc, Integer port, int connections) throws Exception {
+        CountingHandler handler = new CountingHandler();
+        TServer server = rpc.newServer(new SentimentAnalyzerService.Processor<>(handler), port);
+        Thread serving = new Thread(server::serve, "benchmark-server");
+        serving.start();
+        while (!server.isServing()) {
+            Thread.sleep(10);
+        }
+        System.out.printf("%s\n", rpc);
+        ExecutorService clients = Executors.newFixedThreadPool(connections);
+        try {
+            // warm up the jvm and the server before measuring
+            sendCallbacks(rpc, port, clients, connections, TASK_COUNTS[0]);
+            for (int tasks : TASK_COUNTS) {
+                handler.received.set(0);
+                long start = System.nanoTime();
+                sendCallbacks(rpc, port, clients, connections, tasks);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf("  %7d callbacks over %d connections: %8.1f ms, %9.0f callbacks/s (%d received)\n",
+                        tasks, connections, seconds * 1000, tasks / seconds, handler.received.get());
+            }
+        } finally {
+            clients.shutdown();
+            server.stop();
+            serving.join();
+        }
+    }
+
+    /**
+     * open every connection at once and send the tasks spread evenly over them.
+     */
+    private static void sendCallbacks(RpcSettings rpc, Integer port, ExecutorService clients, int connections,
+                                      int tasks) throws Exception {
+        CountDownLatch startLine = new CountDownLatch(1);
+        List<Future<?>> running = new ArrayList<>();
+        for (int c = 0; c < connections; c++) {
+            int first = (int) ((long) tasks * c / connections);
+            int last = (int) ((long) tasks * (c + 1) / connections);
+            running.add(clients.submit(() -> {
+                startLine.await();
+                TTransport transport = rpc.open("localhost", port);
+                try {
+                    SentimentAnalyzerService.Client client = new SentimentAnalyzerService.Client(rpc.newProtocol(transport));
+                    for (int taskId = first; taskId < last; taskId++) {
+                        client.returnSentimentResult("benchmark",
+                                new SentimentResult("file-" + taskId, 10, 5, 100, taskId, null, false));
+                    }
+                } finally {
+                    transport.close();
+                }
+                return null;
+            }));
+        }
+        startLine.countDown();
+        for (Future<?> client : running) {
+            client.get();
+        }
+    }
+
+    /**
+     * server side of the benchmark, only counts the callbacks it receives
+     */
+    private static class CountingHandler implements SentimentAnalyzerService.Iface {
+        private final AtomicLong received = new AtomicLong();
+
+        @Override
+        public boolean ping() throws TException {
+            return true;
+        }
+
+        @Override
+        public String getSentiments(List<String> fileNames) throws TException {
+            return "";
+        }
+
+        @Override
+        public String submitJob(List<String> fileNames) throws TException {
+            return "";
+        }
+
+        @Override
+        public JobStatus getJobStatus(String jobId) throws TException {
+            return new JobStatus(jobId, "UNKNOWN", 0, 0);
+        }
+
+        @Override
+        public String getJobResult(String jobId) throws TException {
+            return "";
+        }
+
+        @Override
+        public void returnSentimentResult(String jobId, SentimentResult result) throws TException {
+            received.incrementAndGet();
+        }
+
+        @Override
+        public void returnSentimentResults(String jobId, List<SentimentResult> results) throws TException {
+            received.addAndGet(results.size());
+        }
+
+        @Override
+        public List<MapTask> fetchTasks(String nodeId, int maxTasks) throws TException {
+            return Collections.emptyList();
+        }
+    }
+}
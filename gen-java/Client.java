@@ -1,6 +1,4 @@
-import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
 
 import java.io.*;
@@ -19,14 +17,15 @@ public class Client {
             prop.load(is);
             String serverAddress = prop.getProperty("server.address");
             Integer serverPort = Integer.valueOf(prop.getProperty("server.port"));
+            Integer pollInterval = Integer.valueOf(prop.getProperty("client.poll.interval", "500"));
             String inputPath = prop.getProperty("input.path");
             File inputDir = new File(inputPath);
             List<File> inputFiles = Arrays.asList(Objects.requireNonNull(inputDir.listFiles()));
 
             // create client connection
-            TTransport transport = new TSocket(serverAddress, serverPort);
-            transport.open();
-            TProtocol protocol = new TBinaryProtocol(transport);
+            RpcSettings rpc = RpcSettings.fromConfig(prop);
+            TTransport transport = rpc.open(serverAddress, serverPort);
+            TProtocol protocol = rpc.newProtocol(transport);
             SentimentAnalyzerService.Client client = new SentimentAnalyzerService.Client(protocol);
 
             // Ping
@@ -34,7 +33,34 @@ public class Client {
             // Call the Sentiment Analysis Service
             List<String> ipFileNames = inputFiles.stream().filter(File::isFile)
                     .map(File::getAbsolutePath).collect(Collectors.toList());
-            String opFileName = client.getSentiments(ipFileNames);
+            String jobId = client.submitJob(ipFileNames);
+            System.out.printf("Submitted Job %s\n", jobId);
+            // poll until the job is done, printing progress whenever it changes
+            JobStatus status = client.getJobStatus(jobId);
+            String progress = "";
+            // UNKNOWN if the server no longer knows the job, eg. it restarted or the job expired
+            while (!status.getPhase().equals("COMPLETE") && !status.getPhase().equals("FAILED")
+                    && !status.getPhase().equals("UNKNOWN")) {
+                String current = String.format("Job %s: %s (%d/%d Map Tasks)", jobId, status.getPhase(),
+                        status.getMapTasksComplete(), status.getMapTasksCount());
+                if (!current.equals(progress)) {
+                    System.out.println(current);
+                    progress = current;
+                }
+                Thread.sleep(pollInterval);
+                status = client.getJobStatus(jobId);
+            }
+            if (status.getPhase().equals("UNKNOWN")) {
+                System.out.printf("Job %s is not known to the server.\n", jobId);
+                transport.close();
+                return;
+            }
+            String opFileName = client.getJobResult(jobId);
+            if (opFileName.isEmpty()) {
+                System.out.printf("Job %s failed.\n", jobId);
+                transport.close();
+                return;
+            }
             // Display Output to Console
             System.out.println("!*=====================*! Sentiment Analysis Output !*=====================*!");
             try (BufferedReader br = new BufferedReader(new FileReader(opFileName))) {
@@ -1,9 +1,11 @@
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TBinaryProtocol;
-import org.apache.thrift.transport.TSocket;
-import org.apache.thrift.transport.TTransport;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -12,24 +14,47 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class ComputeHandler implements ComputeService.Iface {
     private Properties prop;
-    private Set<String> positives;
-    private Set<String> negatives;
+    private Lexicon lexicon;
     // for load probability related stuff
     private List<Long> timers;
     private Scheduler scheduler;
+    private ResultMode resultMode;
     private Float loadProb;
     private Random rand = new Random();
     private Integer loadDelay;
+    private Integer readWindow;
+    // splits longer than parallelThreshold bytes are scored in segments on the scoring pool
+    private Long parallelThreshold;
+    private Long parallelSegment;
+    private ForkJoinPool scoringPool;
+    private ResultCache resultCache;
+    private Integer sortMemoryRecords;
+    private Boolean outputFsync;
+    // bounded pool of map workers, a permit is held by every running or queued task
+    private ExecutorService workers;
+    private Semaphore taskSlots;
+    private Integer workerThreads;
+    private Integer queueSize;
+    // reported to the server by getLoad, latency is a moving average of recent tasks in ms
+    private AtomicInteger activeTasks;
+    private double avgLatency;
+    private ConnectionPool<SentimentAnalyzerService.Client> serverPool;
+    private ResultBatcher resultBatcher;
 
     /**
-     * Constructor - Sets Properties, Scheduler, LoadProb according to nodeIndex, populates
-     * the vocab sets.
+     * Constructor - Sets Properties, Scheduler, ResultMode, LoadProb according to nodeIndex, populates
+     * the lexicon and starts the map worker pool, the server connection pool and result batcher,
+     * the result cache if enabled and the task fetcher if pulling.
      *
      * @param properties java properties for config file
      * @param nodeIndex used to get corresponding load probability from config file
@@ -38,23 +63,118 @@ public class ComputeHandler implements ComputeService.Iface {
         prop = properties;
         timers = new CopyOnWriteArrayList<>();
         scheduler = Scheduler.valueOf(prop.getProperty("scheduler.policy"));
+        resultMode = ResultMode.valueOf(prop.getProperty("result.mode", "FILE"));
         loadProb = Float.valueOf(Arrays.asList(prop.getProperty("mapnode.loadprob")
                 .split("\\s*,\\s*")).get(nodeIndex));
         loadDelay = Integer.valueOf(prop.getProperty("load.delay"));
+        readWindow = Integer.valueOf(prop.getProperty("input.window", "67108864"));
+        parallelThreshold = Long.valueOf(prop.getProperty("mapnode.parallel.threshold", "0"));
+        parallelSegment = Math.max(1, Long.valueOf(prop.getProperty("mapnode.parallel.segment", "8388608")));
+        if (parallelThreshold > 0) {
+            int scoringThreads = Integer.valueOf(prop.getProperty("mapnode.parallel.threads", "0"));
+            scoringPool = new ForkJoinPool(scoringThreads > 0 ? scoringThreads : Runtime.getRuntime().availableProcessors());
+        }
+        sortMemoryRecords = Integer.valueOf(prop.getProperty("sort.memory.records", "1000000"));
+        outputFsync = Boolean.valueOf(prop.getProperty("output.fsync", "false"));
+        workerThreads = Integer.valueOf(prop.getProperty("mapnode.threads", "0"));
+        if (workerThreads <= 0) {
+            workerThreads = Runtime.getRuntime().availableProcessors();
+        }
+        queueSize = Integer.valueOf(prop.getProperty("mapnode.queue.size", "16"));
+        if (VirtualThreads.isEnabled(prop.getProperty("threads.virtual", "false"))) {
+            // the permits still bound the tasks in flight, scanning shares the carrier threads
+            workers = VirtualThreads.newExecutor();
+        } else {
+            workers = Executors.newFixedThreadPool(workerThreads);
+        }
+        taskSlots = new Semaphore(workerThreads + queueSize);
+        activeTasks = new AtomicInteger();
+        System.out.printf("Map Workers: %d, Queue Size: %d\n", workerThreads, queueSize);
+        serverPool = ConnectionPool.fromConfig(prop, Integer.valueOf(prop.getProperty("server.port")),
+                SentimentAnalyzerService.Client::new, SentimentAnalyzerService.Client::ping);
+        resultBatcher = new ResultBatcher(serverPool, prop.getProperty("server.address"),
+                Integer.valueOf(prop.getProperty("callback.batch.size", "32")),
+                Long.valueOf(prop.getProperty("callback.linger", "20")));
         populateVocab();
+        if (Boolean.valueOf(prop.getProperty("cache.enabled", "false"))) {
+            try {
+                resultCache = new ResultCache(Paths.get(prop.getProperty("cache.path", "result.cache")),
+                        lexicon.getVersion(), Integer.valueOf(prop.getProperty("cache.max.entries", "100000")),
+                        Long.valueOf(prop.getProperty("cache.max.bytes", "67108864")));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        if (scheduler == Scheduler.PULL) {
+            startFetcher(getHostName() + "#" + nodeIndex);
+        }
     }
 
     /**
-     * Fill up the positive and negative word sets.
+     * pull mode - fetch map tasks from the server whenever slots are free on the worker pool,
+     * up to pull.batch.size at a time, instead of waiting for the server to push them.
+     * the server holds each fetch up to pull.wait ms when it has no tasks queued.
+     *
+     * @param nodeId id the server knows this node by
+     */
+    private void startFetcher(String nodeId) {
+        String serverAddress = prop.getProperty("server.address");
+        int pullBatchSize = Math.max(1, Integer.valueOf(prop.getProperty("pull.batch.size", "16")));
+        long retryDelay = Long.valueOf(prop.getProperty("pull.wait", "500"));
+        Thread fetcher = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                int slots = 0;
+                try {
+                    // wait for room on the worker pool, then ask for as many tasks as there is room for
+                    taskSlots.acquire();
+                    slots = 1;
+                    while (slots < pullBatchSize && taskSlots.tryAcquire()) {
+                        slots++;
+                    }
+                    int maxTasks = slots;
+                    List<MapTask> tasks = serverPool.call(serverAddress, client -> client.fetchTasks(nodeId, maxTasks));
+                    for (MapTask task : tasks) {
+                        submitMapTask(task.getJobId(), task.getSplit());
+                        slots--;
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                } catch (Exception e) {
+                    // server not up yet or gone, try again later
+                    System.out.printf("Could not fetch map tasks from %s: %s\n", serverAddress, e);
+                    try {
+                        Thread.sleep(retryDelay);
+                    } catch (InterruptedException ie) {
+                        return;
+                    }
+                } finally {
+                    taskSlots.release(slots);
+                }
+            }
+        }, "task-fetcher");
+        fetcher.setDaemon(true);
+        fetcher.start();
+        System.out.printf("Fetching Map Tasks from %s as %s\n", serverAddress, nodeId);
+    }
+
+    private static String getHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            return "localhost";
+        }
+    }
+
+    /**
+     * Compile the positive and negative vocab into one lexicon.
      */
     private void populateVocab() {
         try {
-            positives = new HashSet<>();
-            Path vocabFile = Paths.get(prop.getProperty("vocab.positive"));
-            positives.addAll(Files.readAllLines(vocabFile));
-            negatives = new HashSet<>();
-            vocabFile = Paths.get(prop.getProperty("vocab.negative"));
-            negatives.addAll(Files.readAllLines(vocabFile));
+            List<String> positives = Files.readAllLines(Paths.get(prop.getProperty("vocab.positive")));
+            List<String> negatives = Files.readAllLines(Paths.get(prop.getProperty("vocab.negative")));
+            lexicon = new Lexicon(positives, negatives);
+            System.out.printf("Lexicon: %d positive and %d negative words in %d states\n", positives.size(),
+                    negatives.size(), lexicon.getStateCount());
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -73,56 +193,205 @@ public class ComputeHandler implements ComputeService.Iface {
     }
 
     /**
-     * mapTask service - accept or reject based on loadProb,
-     * launch map task in a new thread if accepted.
+     * mapTask service - queue the map task on the worker pool. when the workers and the
+     * queue are full the task is rejected if load balancing, so the server tries another
+     * node, otherwise the call is held until a slot frees up.
      *
-     * @param fileName input filename to process
+     * @param jobId job the task belongs to
+     * @param split byte range of an input file to process
      * @return true if accept, false if reject
      * @throws TException
      */
     @Override
-    public boolean mapTask(String fileName) throws TException {
-        if (scheduler == Scheduler.LOAD_BALANCING && rand.nextFloat() < loadProb) {
-            // reject task with probability = loadProb
-            System.out.printf("[TID: %d] Call to mapTask(%s) rejected.\n", Thread.currentThread().getId(), fileName);
+    public boolean mapTask(String jobId, InputSplit split) throws TException {
+        if (!acquireSlot(scheduler != Scheduler.LOAD_BALANCING)) {
+            // reject task, this node is saturated
+            System.out.printf("[TID: %d] Call to mapTask(%s @%d) rejected.\n", Thread.currentThread().getId(),
+                    split.getFileName(), split.getOffset());
             return false;
         }
-        System.out.printf("[TID: %d] Call to mapTask(%s) accepted.\n", Thread.currentThread().getId(), fileName);
-        Runnable runMapTask = () -> runMapTask(fileName);
-        new Thread(runMapTask).start();
+        System.out.printf("[TID: %d] Call to mapTask(%s @%d) accepted.\n", Thread.currentThread().getId(),
+                split.getFileName(), split.getOffset());
+        submitMapTask(jobId, split);
         return true;
     }
 
     /**
-     * sortTask service - sort the input filenames by score from the list of
-     * intermediate files and write this to an output file.
+     * mapTasks service - queue as many of a batch of map tasks as there are free slots on
+     * the worker pool. if not load balancing the call is held until at least one slot is
+     * free, so every batch makes progress. if load aware the server only sends as many
+     * tasks as getLoad reported free slots, so the whole batch is accepted, waiting for a
+     * slot in the rare case another job took it first.
+     *
+     * @param jobId job the tasks belong to
+     * @param splits byte ranges of input files to process
+     * @return indexes into splits of the accepted tasks
+     * @throws TException
+     */
+    @Override
+    public List<Integer> mapTasks(String jobId, List<InputSplit> splits) throws TException {
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < splits.size(); i++) {
+            boolean wait = scheduler == Scheduler.LOAD_AWARE
+                    || (accepted.isEmpty() && scheduler != Scheduler.LOAD_BALANCING);
+            if (!acquireSlot(wait)) {
+                break;
+            }
+            submitMapTask(jobId, splits.get(i));
+            accepted.add(i);
+        }
+        System.out.printf("[TID: %d] Call to mapTasks(%d tasks), %d accepted.\n", Thread.currentThread().getId(),
+                splits.size(), accepted.size());
+        return accepted;
+    }
+
+    /**
+     * offerMapTask service - queue the map task only if a slot on the worker pool is free
+     * right now, whatever the scheduler. used for speculative copies, so a busy node never
+     * holds up the server checking on its jobs.
      *
+     * @param jobId job the task belongs to
+     * @param split byte range of an input file to process
+     * @return true if accept, false if reject
+     * @throws TException
+     */
+    @Override
+    public boolean offerMapTask(String jobId, InputSplit split) throws TException {
+        if (!acquireSlot(false)) {
+            return false;
+        }
+        submitMapTask(jobId, split);
+        return true;
+    }
+
+    /**
+     * getLoad service - report how busy this node is, so a load aware server can pick the
+     * least loaded node and size its batches to the free slots instead of being rejected.
+     *
+     * @return queued and running tasks, pool sizes and recent task latency
+     * @throws TException
+     */
+    @Override
+    public NodeLoad getLoad() throws TException {
+        int active = activeTasks.get();
+        int taken = workerThreads + queueSize - taskSlots.availablePermits();
+        synchronized (this) {
+            return new NodeLoad(Math.max(0, taken - active), active, workerThreads, queueSize, avgLatency);
+        }
+    }
+
+    /**
+     * take a slot on the worker pool for one map task.
+     *
+     * @param wait block until a slot is free instead of failing
+     * @return true if a slot was taken
+     */
+    private boolean acquireSlot(boolean wait) {
+        if (!wait) {
+            return taskSlots.tryAcquire();
+        }
+        try {
+            taskSlots.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * run a map task on the worker pool, giving its slot back once done.
+     *
+     * @param jobId job the task belongs to
+     * @param split byte range of an input file to process
+     */
+    private void submitMapTask(String jobId, InputSplit split) {
+        workers.execute(() -> {
+            activeTasks.incrementAndGet();
+            long start = System.currentTimeMillis();
+            try {
+                runMapTask(jobId, split);
+            } finally {
+                recordLatency(System.currentTimeMillis() - start);
+                activeTasks.decrementAndGet();
+                taskSlots.release();
+            }
+        });
+    }
+
+    /**
+     * fold the time of a finished task into the moving average reported by getLoad,
+     * weighted so the average follows changes in load within a few tasks.
+     *
+     * @param latency ms the task took, including injected load
+     */
+    private synchronized void recordLatency(long latency) {
+        avgLatency = avgLatency == 0 ? latency : 0.8 * avgLatency + 0.2 * latency;
+    }
+
+    /**
+     * sortTask service - combine the per split counts from the list of intermediate
+     * files and the results returned inline into one score per input file, sort the
+     * input filenames by score and write this to an output file.
+     * with a limit only the limit highest and lowest scoring files are kept, otherwise
+     * sorted runs are spilled to intermediate.path once past sort.memory.records files.
+     *
+     * @param jobId job the results belong to
      * @param fileNames intermediate filenames to sort
+     * @param results map results held in memory by the server
+     * @param limit number of files to output at each end, 0 for all
      * @return output filename
      * @throws TException
      */
     @Override
-    public String sortTask(List<String> fileNames) throws TException {
+    public String sortTask(String jobId, List<String> fileNames, List<SentimentResult> results, int limit)
+            throws TException {
         try {
-            System.out.printf("[TID: %d] Call to sortTask().\n", Thread.currentThread().getId());
+            System.out.printf("[TID: %d] Call to sortTask(%s).\n", Thread.currentThread().getId(), jobId);
             Instant start = Instant.now();
-            Map<String, Float> fileScoreMap = new HashMap<>();
+            Map<String, SentimentCounts> fileCountMap = new HashMap<>();
             List<Path> intermediateFiles = fileNames.stream().map(Paths::get).collect(Collectors.toList());
             for (Path file : intermediateFiles) {
-                // process each intermediate file
+                // process each intermediate file, adding up the counts of splits of the same input
                 String[] record = new String(Files.readAllBytes(file)).split(",\\s");
-                fileScoreMap.put(record[0], Float.valueOf(record[1]));
+                fileCountMap.computeIfAbsent(record[0], k -> new SentimentCounts())
+                        .add(SentimentCounts.fromRecord(record));
+            }
+            for (SentimentResult result : results) {
+                fileCountMap.computeIfAbsent(result.getFileName(), k -> new SentimentCounts())
+                        .add(SentimentCounts.fromResult(result));
             }
-            List<Map.Entry<String, Float>> fileScoreList = new ArrayList<>(fileScoreMap.entrySet());
-            // sort the list of records by score in descending order
-            fileScoreList.sort(Comparator.comparing(Map.Entry::getValue, Comparator.reverseOrder()));
-            // write this to output file
-            Path outputFile = Paths.get(prop.getProperty("output.path"), System.currentTimeMillis() + "_output.txt");
-            for (Map.Entry<String, Float> fileScore : fileScoreList) {
-                Files.write(outputFile, String.format("%s, %f\n", fileScore.getKey(), fileScore.getValue()).getBytes(), StandardOpenOption.APPEND, StandardOpenOption.CREATE);
+            // write the records to output file by score in descending order
+            Path outputFile = Paths.get(prop.getProperty("output.path"), System.currentTimeMillis() + "_" + jobId + "_output.txt");
+            ScoreFileWriter writer = new ScoreFileWriter(outputFile, outputFsync);
+            try {
+                // scores are only computed once all partial counts are in
+                Iterator<Map.Entry<String, SentimentCounts>> fileCounts = fileCountMap.entrySet().iterator();
+                if (limit > 0) {
+                    TopScores topScores = new TopScores(limit);
+                    while (fileCounts.hasNext()) {
+                        Map.Entry<String, SentimentCounts> counts = fileCounts.next();
+                        topScores.add(counts.getKey(), counts.getValue().getScore());
+                    }
+                    for (Map.Entry<String, Float> fileScore : topScores.getSorted()) {
+                        writer.write(fileScore.getKey(), fileScore.getValue());
+                    }
+                } else {
+                    ScoreSorter sorter = new ScoreSorter(Paths.get(prop.getProperty("intermediate.path")), sortMemoryRecords);
+                    while (fileCounts.hasNext()) {
+                        Map.Entry<String, SentimentCounts> counts = fileCounts.next();
+                        sorter.add(counts.getKey(), counts.getValue().getScore());
+                        // the counts are not needed any more, keep memory bounded when spilling
+                        fileCounts.remove();
+                    }
+                    sorter.writeSorted(writer);
+                }
+            } finally {
+                writer.close();
             }
             Instant end = Instant.now();
-            System.out.printf("Sort Task Complete! Time Taken: %d ms.\n", Duration.between(start, end).toMillis());
+            System.out.printf("Sort Task Complete! Time Taken: %d ms. Wrote %d records (%d bytes) at %.2f MB/s.\n",
+                    Duration.between(start, end).toMillis(), writer.getRecords(), writer.getBytes(), writer.getThroughput());
             return outputFile.toAbsolutePath().toString();
         } catch (Exception e) {
             e.printStackTrace();
@@ -131,79 +400,194 @@ public class ComputeHandler implements ComputeService.Iface {
     }
 
     /**
-     * execute the map task by calculating sentiment score and writing it
-     * to an intermediate file and sending the name back to the server.
+     * execute the map task by counting pos, neg and all words in the split and sending them
+     * back to the server in a batch, either inline or by writing them to an intermediate file and
+     * sending its name depending on resultMode. with the result cache, input already counted
+     * is looked up by the hash of its content instead of being scanned again.
      * Also inject load with probability = loadProb.
      *
-     * @param fileName input filename to process
+     * @param jobId job the task belongs to
+     * @param split byte range of an input file to process
      */
-    private void runMapTask(String fileName) {
+    private void runMapTask(String jobId, InputSplit split) {
         try {
             Instant start = Instant.now();
             if (rand.nextFloat() < loadProb) {
                 // inject load with probability = loadProb
                 Thread.sleep(loadDelay);
             }
-            Float sentimentScore = calculateSentimentScore(fileName);
-            String rawFileName = Paths.get(fileName).getFileName().toString();
-            // write results to intermediate file
-            Path intermediateFile = Files.createFile(Paths.get(prop.getProperty("intermediate.path"),
-                    System.currentTimeMillis() + "_" + rawFileName));
-            Files.write(intermediateFile, String.format("%s, %f", fileName, sentimentScore).getBytes());
+            String fileName = split.getFileName();
+            SentimentCounts counts = null;
+            boolean cached = false;
+            try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+                // both edges are moved forward to the next word boundary, so every word is
+                // counted by exactly one split
+                long size = channel.size();
+                long rangeStart = alignToBoundary(channel, split.getOffset(), size);
+                long rangeEnd = alignToBoundary(channel, split.getOffset() + split.getLength(), size);
+                String cacheKey = resultCache != null ? resultCache.getKey(channel, rangeStart, rangeEnd) : null;
+                if (cacheKey != null) {
+                    counts = resultCache.get(cacheKey);
+                    cached = counts != null;
+                }
+                if (counts == null) {
+                    counts = countSentimentWords(channel, rangeStart, rangeEnd);
+                }
+                if (cacheKey != null && !cached) {
+                    resultCache.put(cacheKey, counts);
+                }
+            }
+            SentimentResult result = counts.toResult(fileName, split.getTaskId());
+            result.setCached(cached);
+            if (resultMode == ResultMode.FILE) {
+                String rawFileName = Paths.get(fileName).getFileName().toString();
+                // write raw counts to intermediate file, the score is computed by the sort task
+                Path intermediateFile = Files.createFile(Paths.get(prop.getProperty("intermediate.path"),
+                        System.currentTimeMillis() + "_" + jobId + "_" + rawFileName + "_" + split.getOffset()));
+                Files.write(intermediateFile, counts.toRecord(fileName).getBytes());
+                // the sort task reads the counts back from the file
+                result.setIntermediateFile(intermediateFile.toAbsolutePath().toString());
+            }
             Instant end = Instant.now();
             timers.add(Duration.between(start, end).toMillis());
-            System.out.printf("Map Task(%d) Complete: (%s, %f). Avg Time Taken: %.2f ms.\n", timers.size(),
-                    fileName, sentimentScore, timers.stream().mapToLong(v -> v).average().orElse(0.0));
-            String serverAddress = prop.getProperty("server.address");
-            Integer serverPort = Integer.valueOf(prop.getProperty("server.port"));
-            // make the return RPC call to return results to server
-            TTransport transport = new TSocket(serverAddress, serverPort);
-            transport.open();
-            SentimentAnalyzerService.Client client = new SentimentAnalyzerService.Client(new TBinaryProtocol(transport));
-            client.returnSentimentResult(intermediateFile.toAbsolutePath().toString());
-
-            transport.close();
+            System.out.printf("Map Task(%d) Complete: (%s @%d, +%d, -%d%s). Avg Time Taken: %.2f ms. Server Connection Pool: %s\n",
+                    timers.size(), fileName, split.getOffset(), counts.getNumPos(), counts.getNumNeg(),
+                    cached ? ", cached" : "", timers.stream().mapToLong(v -> v).average().orElse(0.0),
+                    serverPool.getStats());
+            if (resultCache != null) {
+                System.out.printf("Result Cache: %s\n", resultCache.getStats());
+            }
+            // queue the result for the next batched return RPC to the server
+            resultBatcher.add(jobId, result);
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
     /**
-     * calculating sentiment score for that file using the formula = (p-n)/(p+n)
-     * by counting pos and neg words in the input file
+     * count pos and neg words in a word aligned range of the input file. the file is memory
+     * mapped and scanned one window at a time so heap usage does not grow with the file size.
+     * ranges longer than parallelThreshold are cut into word aligned segments counted in
+     * parallel on the scoring pool.
      *
-     * @param fileName input filename to score
-     * @return sentiment score
+     * @param channel input file
+     * @param start first byte, directly after a word boundary
+     * @param end end of the range, directly after a word boundary or the end of the file
+     * @return counts for the range
+     * @throws IOException
      */
-    private Float calculateSentimentScore(String fileName) {
+    private SentimentCounts countSentimentWords(FileChannel channel, long start, long end) throws IOException {
+        if (scoringPool == null || end - start <= parallelThreshold) {
+            return countRange(channel, start, end);
+        }
         try {
-            Path inputFile = Paths.get(fileName);
-            String content = new String(Files.readAllBytes(inputFile))
-                    .toLowerCase().replace("--", " ");
-            int numPos = 0;
-            int numNeg = 0;
-            Matcher matcher = Pattern.compile("([a-zA-Z\\-]+)")
-                    .matcher(content);
-            while (matcher.find()) {
-                String word = matcher.group();
-                if (positives.contains(word)) {
-                    numPos += 1;
+            return scoringPool.invoke(new SegmentCount(channel, start, end));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * count pos and neg words between two word aligned positions of the input file.
+     *
+     * @param channel input file
+     * @param start first byte, directly after a word boundary
+     * @param end end of the range, directly after a word boundary or the end of the file
+     * @return counts for the range
+     * @throws IOException
+     */
+    private SentimentCounts countRange(FileChannel channel, long start, long end) throws IOException {
+        SentimentScanner scanner = new SentimentScanner(lexicon);
+        for (long position = start; position < end; position += readWindow) {
+            // tokens cut at the window edge are carried over by the scanner
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(readWindow, end - position));
+            scanner.update(window);
+        }
+        scanner.finish();
+        return scanner.getCounts();
+    }
+
+    /**
+     * find the first position at or after the given one that directly follows a word boundary.
+     *
+     * @param channel input file
+     * @param position split edge
+     * @param size file size
+     * @return aligned split edge
+     * @throws IOException
+     */
+    private long alignToBoundary(FileChannel channel, long position, long size) throws IOException {
+        if (position <= 0 || position >= size) {
+            return Math.max(0, Math.min(position, size));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        // start from the byte before the edge, the edge may already be on a boundary
+        long current = position - 1;
+        while (current < size) {
+            buffer.clear();
+            int read = channel.read(buffer, current);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (SentimentScanner.isBoundary(buffer.get(i))) {
+                    return current + i + 1;
                 }
-                if (negatives.contains(word)) {
-                    numNeg += 1;
+            }
+            current += read;
+        }
+        return size;
+    }
+
+    /**
+     * counts a word aligned range of the input file, halving it at the next word boundary
+     * until the pieces are at most parallelSegment bytes
+     */
+    private class SegmentCount extends RecursiveTask<SentimentCounts> {
+        private static final long serialVersionUID = 1L;
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+
+        SegmentCount(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected SentimentCounts compute() {
+            try {
+                if (end - start > parallelSegment) {
+                    long middle = alignToBoundary(channel, start + (end - start) / 2, end);
+                    if (middle > start && middle < end) {
+                        SegmentCount second = new SegmentCount(channel, middle, end);
+                        second.fork();
+                        SentimentCounts counts = new SegmentCount(channel, start, middle).compute();
+                        return counts.add(second.join());
+                    }
                 }
+                return countRange(channel, start, end);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-            return (numPos - numNeg) / (float) (numPos + numNeg);
-        } catch (IOException e) {
-            e.printStackTrace();
         }
-        return 0.0f;
     }
 
     /**
-     * Scheduler Modes
+     * Scheduler Modes - LOAD_AWARE places tasks using the load reported by each node,
+     * with PULL the nodes fetch tasks from the server instead
      */
     enum Scheduler {
-        RANDOM, LOAD_BALANCING
+        RANDOM, LOAD_BALANCING, LOAD_AWARE, PULL
+    }
+
+    /**
+     * How map results get back to the server - INLINE in the return RPC,
+     * or through a FILE in intermediate.path for very large jobs
+     */
+    enum ResultMode {
+        FILE, INLINE
     }
 }
\ No newline at end of file
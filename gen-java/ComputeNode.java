@@ -1,7 +1,4 @@
 import org.apache.thrift.server.TServer;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
-import org.apache.thrift.transport.TServerTransport;
 
 import java.io.FileInputStream;
 import java.io.InputStream;
@@ -24,22 +21,20 @@ public class ComputeNode {
             handler = new ComputeHandler(prop, nodeIndex);
             processor = new ComputeService.Processor<>(handler);
 
-            startThreadPoolServer(nodeIndex);
+            startServer(nodeIndex);
         } catch (Exception x) {
             x.printStackTrace();
         }
     }
 
-    private static void startThreadPoolServer(Integer nodeIndex) {
+    private static void startServer(Integer nodeIndex) {
         try {
             Integer serverPort = Integer.valueOf(prop.getProperty("computenode.port"));
-            // Create Thrift server socket as a thread pool
-            TServerTransport serverTransport = new TServerSocket(serverPort);
-            TThreadPoolServer.Args args = new TThreadPoolServer.Args(serverTransport);
-            args.processor(processor);
-            TServer server = new TThreadPoolServer(args);
+            // Create Thrift server of the configured type
+            RpcSettings rpc = RpcSettings.fromConfig(prop);
+            TServer server = rpc.newServer(processor, serverPort);
 
-            System.out.printf("Starting the ComputeNode(ID: %d)...\n", nodeIndex);
+            System.out.printf("Starting the ComputeNode(ID: %d, %s)...\n", nodeIndex, rpc);
             server.serve();
         } catch (Exception e) {
             e.printStackTrace();
@@ -1,2580 +1,5887 @@
 /**
  * Autogenerated by Thrift Compiler (0.9.3)
- * <p>
- * DO NOT EDIT UNLESS YOU ARE SURE THAT YOU KNOW WHAT YOU ARE DOING
  *
- * @generated
+ * DO NOT EDIT UNLESS YOU ARE SURE THAT YOU KNOW WHAT YOU ARE DOING
+ *  @generated
  */
-
-import org.apache.thrift.EncodingUtils;
-import org.apache.thrift.TException;
-import org.apache.thrift.async.AsyncMethodCallback;
-import org.apache.thrift.protocol.TTupleProtocol;
 import org.apache.thrift.scheme.IScheme;
 import org.apache.thrift.scheme.SchemeFactory;
 import org.apache.thrift.scheme.StandardScheme;
+
 import org.apache.thrift.scheme.TupleScheme;
-import org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer;
+import org.apache.thrift.protocol.TTupleProtocol;
+import org.apache.thrift.protocol.TProtocolException;
+import org.apache.thrift.EncodingUtils;
+import org.apache.thrift.TException;
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.apache.thrift.server.AbstractNonblockingServer.*;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.Collections;
+import java.util.BitSet;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import javax.annotation.Generated;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.Generated;
-import java.util.*;
-
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2019-03-04")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2026-10-17")
 public class ComputeService {
 
-    public interface Iface {
+  public interface Iface {
 
-        boolean ping() throws org.apache.thrift.TException;
+    public boolean ping() throws org.apache.thrift.TException;
 
-        boolean mapTask(String fileName) throws org.apache.thrift.TException;
+    public boolean mapTask(String jobId, InputSplit split) throws org.apache.thrift.TException;
 
-        String sortTask(List<String> fileNames) throws org.apache.thrift.TException;
+    public List<Integer> mapTasks(String jobId, List<InputSplit> splits) throws org.apache.thrift.TException;
 
-    }
+    public boolean offerMapTask(String jobId, InputSplit split) throws org.apache.thrift.TException;
 
-    public interface AsyncIface {
+    public NodeLoad getLoad() throws org.apache.thrift.TException;
 
-        void ping(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+    public String sortTask(String jobId, List<String> fileNames, List<SentimentResult> results, int limit) throws org.apache.thrift.TException;
 
-        void mapTask(String fileName, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+  }
 
-        void sortTask(List<String> fileNames, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+  public interface AsyncIface {
 
+    public void ping(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void mapTask(String jobId, InputSplit split, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void mapTasks(String jobId, List<InputSplit> splits, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void offerMapTask(String jobId, InputSplit split, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void getLoad(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void sortTask(String jobId, List<String> fileNames, List<SentimentResult> results, int limit, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+  }
+
+  public static class Client extends org.apache.thrift.TServiceClient implements Iface {
+    public static class Factory implements org.apache.thrift.TServiceClientFactory<Client> {
+      public Factory() {}
+      public Client getClient(org.apache.thrift.protocol.TProtocol prot) {
+        return new Client(prot);
+      }
+      public Client getClient(org.apache.thrift.protocol.TProtocol iprot, org.apache.thrift.protocol.TProtocol oprot) {
+        return new Client(iprot, oprot);
+      }
     }
 
-    public static class Client extends org.apache.thrift.TServiceClient implements Iface {
-        public Client(org.apache.thrift.protocol.TProtocol prot) {
-            super(prot, prot);
-        }
+    public Client(org.apache.thrift.protocol.TProtocol prot)
+    {
+      super(prot, prot);
+    }
 
-        public Client(org.apache.thrift.protocol.TProtocol iprot, org.apache.thrift.protocol.TProtocol oprot) {
-            super(iprot, oprot);
-        }
+    public Client(org.apache.thrift.protocol.TProtocol iprot, org.apache.thrift.protocol.TProtocol oprot) {
+      super(iprot, oprot);
+    }
 
-        public boolean ping() throws org.apache.thrift.TException {
-            send_ping();
-            return recv_ping();
-        }
+    public boolean ping() throws org.apache.thrift.TException
+    {
+      send_ping();
+      return recv_ping();
+    }
 
-        public void send_ping() throws org.apache.thrift.TException {
-            ping_args args = new ping_args();
-            sendBase("ping", args);
-        }
+    public void send_ping() throws org.apache.thrift.TException
+    {
+      ping_args args = new ping_args();
+      sendBase("ping", args);
+    }
 
-        public boolean recv_ping() throws org.apache.thrift.TException {
-            ping_result result = new ping_result();
-            receiveBase(result, "ping");
-            if (result.isSetSuccess()) {
-                return result.success;
-            }
-            throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "ping failed: unknown result");
-        }
+    public boolean recv_ping() throws org.apache.thrift.TException
+    {
+      ping_result result = new ping_result();
+      receiveBase(result, "ping");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "ping failed: unknown result");
+    }
 
-        public boolean mapTask(String fileName) throws org.apache.thrift.TException {
-            send_mapTask(fileName);
-            return recv_mapTask();
-        }
+    public boolean mapTask(String jobId, InputSplit split) throws org.apache.thrift.TException
+    {
+      send_mapTask(jobId, split);
+      return recv_mapTask();
+    }
 
-        public void send_mapTask(String fileName) throws org.apache.thrift.TException {
-            mapTask_args args = new mapTask_args();
-            args.setFileName(fileName);
-            sendBase("mapTask", args);
-        }
+    public void send_mapTask(String jobId, InputSplit split) throws org.apache.thrift.TException
+    {
+      mapTask_args args = new mapTask_args();
+      args.setJobId(jobId);
+      args.setSplit(split);
+      sendBase("mapTask", args);
+    }
 
-        public boolean recv_mapTask() throws org.apache.thrift.TException {
-            mapTask_result result = new mapTask_result();
-            receiveBase(result, "mapTask");
-            if (result.isSetSuccess()) {
-                return result.success;
-            }
-            throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "mapTask failed: unknown result");
-        }
+    public boolean recv_mapTask() throws org.apache.thrift.TException
+    {
+      mapTask_result result = new mapTask_result();
+      receiveBase(result, "mapTask");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "mapTask failed: unknown result");
+    }
 
-        public String sortTask(List<String> fileNames) throws org.apache.thrift.TException {
-            send_sortTask(fileNames);
-            return recv_sortTask();
-        }
+    public List<Integer> mapTasks(String jobId, List<InputSplit> splits) throws org.apache.thrift.TException
+    {
+      send_mapTasks(jobId, splits);
+      return recv_mapTasks();
+    }
 
-        public void send_sortTask(List<String> fileNames) throws org.apache.thrift.TException {
-            sortTask_args args = new sortTask_args();
-            args.setFileNames(fileNames);
-            sendBase("sortTask", args);
-        }
+    public void send_mapTasks(String jobId, List<InputSplit> splits) throws org.apache.thrift.TException
+    {
+      mapTasks_args args = new mapTasks_args();
+      args.setJobId(jobId);
+      args.setSplits(splits);
+      sendBase("mapTasks", args);
+    }
 
-        public String recv_sortTask() throws org.apache.thrift.TException {
-            sortTask_result result = new sortTask_result();
-            receiveBase(result, "sortTask");
-            if (result.isSetSuccess()) {
-                return result.success;
-            }
-            throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "sortTask failed: unknown result");
-        }
+    public List<Integer> recv_mapTasks() throws org.apache.thrift.TException
+    {
+      mapTasks_result result = new mapTasks_result();
+      receiveBase(result, "mapTasks");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "mapTasks failed: unknown result");
+    }
 
-        public static class Factory implements org.apache.thrift.TServiceClientFactory<Client> {
-            public Factory() {
-            }
+    public boolean offerMapTask(String jobId, InputSplit split) throws org.apache.thrift.TException
+    {
+      send_offerMapTask(jobId, split);
+      return recv_offerMapTask();
+    }
 
-            public Client getClient(org.apache.thrift.protocol.TProtocol prot) {
-                return new Client(prot);
-            }
+    public void send_offerMapTask(String jobId, InputSplit split) throws org.apache.thrift.TException
+    {
+      offerMapTask_args args = new offerMapTask_args();
+      args.setJobId(jobId);
+      args.setSplit(split);
+      sendBase("offerMapTask", args);
+    }
 
-            public Client getClient(org.apache.thrift.protocol.TProtocol iprot, org.apache.thrift.protocol.TProtocol oprot) {
-                return new Client(iprot, oprot);
-            }
-        }
+    public boolean recv_offerMapTask() throws org.apache.thrift.TException
+    {
+      offerMapTask_result result = new offerMapTask_result();
+      receiveBase(result, "offerMapTask");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "offerMapTask failed: unknown result");
+    }
 
+    public NodeLoad getLoad() throws org.apache.thrift.TException
+    {
+      send_getLoad();
+      return recv_getLoad();
     }
 
-    public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
-        public AsyncClient(org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.async.TAsyncClientManager clientManager, org.apache.thrift.transport.TNonblockingTransport transport) {
-            super(protocolFactory, clientManager, transport);
-        }
+    public void send_getLoad() throws org.apache.thrift.TException
+    {
+      getLoad_args args = new getLoad_args();
+      sendBase("getLoad", args);
+    }
 
-        public void ping(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
-            checkReady();
-            ping_call method_call = new ping_call(resultHandler, this, ___protocolFactory, ___transport);
-            this.___currentMethod = method_call;
-            ___manager.call(method_call);
-        }
+    public NodeLoad recv_getLoad() throws org.apache.thrift.TException
+    {
+      getLoad_result result = new getLoad_result();
+      receiveBase(result, "getLoad");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getLoad failed: unknown result");
+    }
 
-        public void mapTask(String fileName, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
-            checkReady();
-            mapTask_call method_call = new mapTask_call(fileName, resultHandler, this, ___protocolFactory, ___transport);
-            this.___currentMethod = method_call;
-            ___manager.call(method_call);
-        }
+    public String sortTask(String jobId, List<String> fileNames, List<SentimentResult> results, int limit) throws org.apache.thrift.TException
+    {
+      send_sortTask(jobId, fileNames, results, limit);
+      return recv_sortTask();
+    }
 
-        public void sortTask(List<String> fileNames, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
-            checkReady();
-            sortTask_call method_call = new sortTask_call(fileNames, resultHandler, this, ___protocolFactory, ___transport);
-            this.___currentMethod = method_call;
-            ___manager.call(method_call);
-        }
+    public void send_sortTask(String jobId, List<String> fileNames, List<SentimentResult> results, int limit) throws org.apache.thrift.TException
+    {
+      sortTask_args args = new sortTask_args();
+      args.setJobId(jobId);
+      args.setFileNames(fileNames);
+      args.setResults(results);
+      args.setLimit(limit);
+      sendBase("sortTask", args);
+    }
 
-        public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
-            private org.apache.thrift.async.TAsyncClientManager clientManager;
-            private org.apache.thrift.protocol.TProtocolFactory protocolFactory;
+    public String recv_sortTask() throws org.apache.thrift.TException
+    {
+      sortTask_result result = new sortTask_result();
+      receiveBase(result, "sortTask");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "sortTask failed: unknown result");
+    }
 
-            public Factory(org.apache.thrift.async.TAsyncClientManager clientManager, org.apache.thrift.protocol.TProtocolFactory protocolFactory) {
-                this.clientManager = clientManager;
-                this.protocolFactory = protocolFactory;
-            }
+  }
+  public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
+    public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
+      private org.apache.thrift.async.TAsyncClientManager clientManager;
+      private org.apache.thrift.protocol.TProtocolFactory protocolFactory;
+      public Factory(org.apache.thrift.async.TAsyncClientManager clientManager, org.apache.thrift.protocol.TProtocolFactory protocolFactory) {
+        this.clientManager = clientManager;
+        this.protocolFactory = protocolFactory;
+      }
+      public AsyncClient getAsyncClient(org.apache.thrift.transport.TNonblockingTransport transport) {
+        return new AsyncClient(protocolFactory, clientManager, transport);
+      }
+    }
 
-            public AsyncClient getAsyncClient(org.apache.thrift.transport.TNonblockingTransport transport) {
-                return new AsyncClient(protocolFactory, clientManager, transport);
-            }
-        }
+    public AsyncClient(org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.async.TAsyncClientManager clientManager, org.apache.thrift.transport.TNonblockingTransport transport) {
+      super(protocolFactory, clientManager, transport);
+    }
 
-        public static class ping_call extends org.apache.thrift.async.TAsyncMethodCall {
-            public ping_call(org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
-                super(client, protocolFactory, transport, resultHandler, false);
-            }
+    public void ping(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      ping_call method_call = new ping_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-            public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-                prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("ping", org.apache.thrift.protocol.TMessageType.CALL, 0));
-                ping_args args = new ping_args();
-                args.write(prot);
-                prot.writeMessageEnd();
-            }
+    public static class ping_call extends org.apache.thrift.async.TAsyncMethodCall {
+      public ping_call(org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("ping", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        ping_args args = new ping_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public boolean getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_ping();
+      }
+    }
 
-            public boolean getResult() throws org.apache.thrift.TException {
-                if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
-                    throw new IllegalStateException("Method call not finished!");
-                }
-                org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
-                org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-                return (new Client(prot)).recv_ping();
-            }
-        }
+    public void mapTask(String jobId, InputSplit split, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      mapTask_call method_call = new mapTask_call(jobId, split, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-        public static class mapTask_call extends org.apache.thrift.async.TAsyncMethodCall {
-            private String fileName;
+    public static class mapTask_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String jobId;
+      private InputSplit split;
+      public mapTask_call(String jobId, InputSplit split, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.jobId = jobId;
+        this.split = split;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("mapTask", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        mapTask_args args = new mapTask_args();
+        args.setJobId(jobId);
+        args.setSplit(split);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public boolean getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_mapTask();
+      }
+    }
 
-            public mapTask_call(String fileName, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
-                super(client, protocolFactory, transport, resultHandler, false);
-                this.fileName = fileName;
-            }
+    public void mapTasks(String jobId, List<InputSplit> splits, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      mapTasks_call method_call = new mapTasks_call(jobId, splits, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-            public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-                prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("mapTask", org.apache.thrift.protocol.TMessageType.CALL, 0));
-                mapTask_args args = new mapTask_args();
-                args.setFileName(fileName);
-                args.write(prot);
-                prot.writeMessageEnd();
-            }
+    public static class mapTasks_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String jobId;
+      private List<InputSplit> splits;
+      public mapTasks_call(String jobId, List<InputSplit> splits, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.jobId = jobId;
+        this.splits = splits;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("mapTasks", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        mapTasks_args args = new mapTasks_args();
+        args.setJobId(jobId);
+        args.setSplits(splits);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<Integer> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_mapTasks();
+      }
+    }
 
-            public boolean getResult() throws org.apache.thrift.TException {
-                if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
-                    throw new IllegalStateException("Method call not finished!");
-                }
-                org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
-                org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-                return (new Client(prot)).recv_mapTask();
-            }
-        }
+    public void offerMapTask(String jobId, InputSplit split, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      offerMapTask_call method_call = new offerMapTask_call(jobId, split, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-        public static class sortTask_call extends org.apache.thrift.async.TAsyncMethodCall {
-            private List<String> fileNames;
+    public static class offerMapTask_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String jobId;
+      private InputSplit split;
+      public offerMapTask_call(String jobId, InputSplit split, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.jobId = jobId;
+        this.split = split;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("offerMapTask", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        offerMapTask_args args = new offerMapTask_args();
+        args.setJobId(jobId);
+        args.setSplit(split);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public boolean getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_offerMapTask();
+      }
+    }
 
-            public sortTask_call(List<String> fileNames, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
-                super(client, protocolFactory, transport, resultHandler, false);
-                this.fileNames = fileNames;
-            }
+    public void getLoad(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getLoad_call method_call = new getLoad_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-            public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-                prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("sortTask", org.apache.thrift.protocol.TMessageType.CALL, 0));
-                sortTask_args args = new sortTask_args();
-                args.setFileNames(fileNames);
-                args.write(prot);
-                prot.writeMessageEnd();
-            }
+    public static class getLoad_call extends org.apache.thrift.async.TAsyncMethodCall {
+      public getLoad_call(org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getLoad", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getLoad_args args = new getLoad_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public NodeLoad getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getLoad();
+      }
+    }
 
-            public String getResult() throws org.apache.thrift.TException {
-                if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
-                    throw new IllegalStateException("Method call not finished!");
-                }
-                org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
-                org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-                return (new Client(prot)).recv_sortTask();
-            }
-        }
+    public void sortTask(String jobId, List<String> fileNames, List<SentimentResult> results, int limit, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      sortTask_call method_call = new sortTask_call(jobId, fileNames, results, limit, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
+    public static class sortTask_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String jobId;
+      private List<String> fileNames;
+      private List<SentimentResult> results;
+      private int limit;
+      public sortTask_call(String jobId, List<String> fileNames, List<SentimentResult> results, int limit, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.jobId = jobId;
+        this.fileNames = fileNames;
+        this.results = results;
+        this.limit = limit;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("sortTask", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        sortTask_args args = new sortTask_args();
+        args.setJobId(jobId);
+        args.setFileNames(fileNames);
+        args.setResults(results);
+        args.setLimit(limit);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public String getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_sortTask();
+      }
     }
 
-    public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
-        private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
+  }
 
-        public Processor(I iface) {
-            super(iface, getProcessMap(new HashMap<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
-        }
+  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
+    public Processor(I iface) {
+      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
+    }
 
-        protected Processor(I iface, Map<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> processMap) {
-            super(iface, getProcessMap(processMap));
-        }
+    protected Processor(I iface, Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
 
-        private static <I extends Iface> Map<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> getProcessMap(Map<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> processMap) {
-            processMap.put("ping", new ping());
-            processMap.put("mapTask", new mapTask());
-            processMap.put("sortTask", new sortTask());
-            return processMap;
-        }
+    private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      processMap.put("ping", new ping());
+      processMap.put("mapTask", new mapTask());
+      processMap.put("mapTasks", new mapTasks());
+      processMap.put("offerMapTask", new offerMapTask());
+      processMap.put("getLoad", new getLoad());
+      processMap.put("sortTask", new sortTask());
+      return processMap;
+    }
 
-        public static class ping<I extends Iface> extends org.apache.thrift.ProcessFunction<I, ping_args> {
-            public ping() {
-                super("ping");
-            }
+    public static class ping<I extends Iface> extends org.apache.thrift.ProcessFunction<I, ping_args> {
+      public ping() {
+        super("ping");
+      }
+
+      public ping_args getEmptyArgsInstance() {
+        return new ping_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public ping_result getResult(I iface, ping_args args) throws org.apache.thrift.TException {
+        ping_result result = new ping_result();
+        result.success = iface.ping();
+        result.setSuccessIsSet(true);
+        return result;
+      }
+    }
 
-            public ping_args getEmptyArgsInstance() {
-                return new ping_args();
-            }
+    public static class mapTask<I extends Iface> extends org.apache.thrift.ProcessFunction<I, mapTask_args> {
+      public mapTask() {
+        super("mapTask");
+      }
+
+      public mapTask_args getEmptyArgsInstance() {
+        return new mapTask_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public mapTask_result getResult(I iface, mapTask_args args) throws org.apache.thrift.TException {
+        mapTask_result result = new mapTask_result();
+        result.success = iface.mapTask(args.jobId, args.split);
+        result.setSuccessIsSet(true);
+        return result;
+      }
+    }
 
-            protected boolean isOneway() {
-                return false;
-            }
+    public static class mapTasks<I extends Iface> extends org.apache.thrift.ProcessFunction<I, mapTasks_args> {
+      public mapTasks() {
+        super("mapTasks");
+      }
 
-            public ping_result getResult(I iface, ping_args args) throws org.apache.thrift.TException {
-                ping_result result = new ping_result();
-                result.success = iface.ping();
-                result.setSuccessIsSet(true);
-                return result;
-            }
-        }
+      public mapTasks_args getEmptyArgsInstance() {
+        return new mapTasks_args();
+      }
 
-        public static class mapTask<I extends Iface> extends org.apache.thrift.ProcessFunction<I, mapTask_args> {
-            public mapTask() {
-                super("mapTask");
-            }
+      protected boolean isOneway() {
+        return false;
+      }
 
-            public mapTask_args getEmptyArgsInstance() {
-                return new mapTask_args();
-            }
+      public mapTasks_result getResult(I iface, mapTasks_args args) throws org.apache.thrift.TException {
+        mapTasks_result result = new mapTasks_result();
+        result.success = iface.mapTasks(args.jobId, args.splits);
+        return result;
+      }
+    }
 
-            protected boolean isOneway() {
-                return false;
-            }
+    public static class offerMapTask<I extends Iface> extends org.apache.thrift.ProcessFunction<I, offerMapTask_args> {
+      public offerMapTask() {
+        super("offerMapTask");
+      }
+
+      public offerMapTask_args getEmptyArgsInstance() {
+        return new offerMapTask_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public offerMapTask_result getResult(I iface, offerMapTask_args args) throws org.apache.thrift.TException {
+        offerMapTask_result result = new offerMapTask_result();
+        result.success = iface.offerMapTask(args.jobId, args.split);
+        result.setSuccessIsSet(true);
+        return result;
+      }
+    }
 
-            public mapTask_result getResult(I iface, mapTask_args args) throws org.apache.thrift.TException {
-                mapTask_result result = new mapTask_result();
-                result.success = iface.mapTask(args.fileName);
-                result.setSuccessIsSet(true);
-                return result;
-            }
-        }
+    public static class getLoad<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getLoad_args> {
+      public getLoad() {
+        super("getLoad");
+      }
 
-        public static class sortTask<I extends Iface> extends org.apache.thrift.ProcessFunction<I, sortTask_args> {
-            public sortTask() {
-                super("sortTask");
-            }
+      public getLoad_args getEmptyArgsInstance() {
+        return new getLoad_args();
+      }
 
-            public sortTask_args getEmptyArgsInstance() {
-                return new sortTask_args();
-            }
+      protected boolean isOneway() {
+        return false;
+      }
 
-            protected boolean isOneway() {
-                return false;
-            }
+      public getLoad_result getResult(I iface, getLoad_args args) throws org.apache.thrift.TException {
+        getLoad_result result = new getLoad_result();
+        result.success = iface.getLoad();
+        return result;
+      }
+    }
 
-            public sortTask_result getResult(I iface, sortTask_args args) throws org.apache.thrift.TException {
-                sortTask_result result = new sortTask_result();
-                result.success = iface.sortTask(args.fileNames);
-                return result;
-            }
-        }
+    public static class sortTask<I extends Iface> extends org.apache.thrift.ProcessFunction<I, sortTask_args> {
+      public sortTask() {
+        super("sortTask");
+      }
 
+      public sortTask_args getEmptyArgsInstance() {
+        return new sortTask_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public sortTask_result getResult(I iface, sortTask_args args) throws org.apache.thrift.TException {
+        sortTask_result result = new sortTask_result();
+        result.success = iface.sortTask(args.jobId, args.fileNames, args.results, args.limit);
+        return result;
+      }
     }
 
-    public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
-        private static final Logger LOGGER = LoggerFactory.getLogger(AsyncProcessor.class.getName());
+  }
 
-        public AsyncProcessor(I iface) {
-            super(iface, getProcessMap(new HashMap<String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
-        }
+  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncProcessor.class.getName());
+    public AsyncProcessor(I iface) {
+      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
+    }
 
-        protected AsyncProcessor(I iface, Map<String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>> processMap) {
-            super(iface, getProcessMap(processMap));
-        }
+    protected AsyncProcessor(I iface, Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
 
-        private static <I extends AsyncIface> Map<String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>> getProcessMap(Map<String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>> processMap) {
-            processMap.put("ping", new ping());
-            processMap.put("mapTask", new mapTask());
-            processMap.put("sortTask", new sortTask());
-            return processMap;
-        }
+    private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      processMap.put("ping", new ping());
+      processMap.put("mapTask", new mapTask());
+      processMap.put("mapTasks", new mapTasks());
+      processMap.put("offerMapTask", new offerMapTask());
+      processMap.put("getLoad", new getLoad());
+      processMap.put("sortTask", new sortTask());
+      return processMap;
+    }
 
-        public static class ping<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, ping_args, Boolean> {
-            public ping() {
-                super("ping");
-            }
+    public static class ping<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, ping_args, Boolean> {
+      public ping() {
+        super("ping");
+      }
 
-            public ping_args getEmptyArgsInstance() {
-                return new ping_args();
-            }
+      public ping_args getEmptyArgsInstance() {
+        return new ping_args();
+      }
 
-            public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-                final org.apache.thrift.AsyncProcessFunction fcall = this;
-                return new AsyncMethodCallback<Boolean>() {
-                    public void onComplete(Boolean o) {
-                        ping_result result = new ping_result();
-                        result.success = o;
-                        result.setSuccessIsSet(true);
-                        try {
-                            fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid);
-                            return;
-                        } catch (Exception e) {
-                            LOGGER.error("Exception writing to internal frame buffer", e);
-                        }
-                        fb.close();
-                    }
-
-                    public void onError(Exception e) {
-                        byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-                        org.apache.thrift.TBase msg;
-                        ping_result result = new ping_result();
-                        {
-                            msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-                            msg = (org.apache.thrift.TBase) new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-                        }
-                        try {
-                            fcall.sendResponse(fb, msg, msgType, seqid);
-                            return;
-                        } catch (Exception ex) {
-                            LOGGER.error("Exception writing to internal frame buffer", ex);
-                        }
-                        fb.close();
-                    }
-                };
+      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Boolean>() { 
+          public void onComplete(Boolean o) {
+            ping_result result = new ping_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            ping_result result = new ping_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
             }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, ping_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
+        iface.ping(resultHandler);
+      }
+    }
 
-            protected boolean isOneway() {
-                return false;
-            }
+    public static class mapTask<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, mapTask_args, Boolean> {
+      public mapTask() {
+        super("mapTask");
+      }
 
-            public void start(I iface, ping_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
-                iface.ping(resultHandler);
-            }
-        }
+      public mapTask_args getEmptyArgsInstance() {
+        return new mapTask_args();
+      }
 
-        public static class mapTask<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, mapTask_args, Boolean> {
-            public mapTask() {
-                super("mapTask");
+      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Boolean>() { 
+          public void onComplete(Boolean o) {
+            mapTask_result result = new mapTask_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            mapTask_result result = new mapTask_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
             }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, mapTask_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
+        iface.mapTask(args.jobId,args.split,resultHandler);
+      }
+    }
 
-            public mapTask_args getEmptyArgsInstance() {
-                return new mapTask_args();
+    public static class mapTasks<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, mapTasks_args, List<Integer>> {
+      public mapTasks() {
+        super("mapTasks");
+      }
+
+      public mapTasks_args getEmptyArgsInstance() {
+        return new mapTasks_args();
+      }
+
+      public AsyncMethodCallback<List<Integer>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<Integer>>() { 
+          public void onComplete(List<Integer> o) {
+            mapTasks_result result = new mapTasks_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            mapTasks_result result = new mapTasks_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
             }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, mapTasks_args args, org.apache.thrift.async.AsyncMethodCallback<List<Integer>> resultHandler) throws TException {
+        iface.mapTasks(args.jobId,args.splits,resultHandler);
+      }
+    }
 
-            public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-                final org.apache.thrift.AsyncProcessFunction fcall = this;
-                return new AsyncMethodCallback<Boolean>() {
-                    public void onComplete(Boolean o) {
-                        mapTask_result result = new mapTask_result();
-                        result.success = o;
-                        result.setSuccessIsSet(true);
-                        try {
-                            fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid);
-                            return;
-                        } catch (Exception e) {
-                            LOGGER.error("Exception writing to internal frame buffer", e);
-                        }
-                        fb.close();
-                    }
-
-                    public void onError(Exception e) {
-                        byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-                        org.apache.thrift.TBase msg;
-                        mapTask_result result = new mapTask_result();
-                        {
-                            msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-                            msg = (org.apache.thrift.TBase) new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-                        }
-                        try {
-                            fcall.sendResponse(fb, msg, msgType, seqid);
-                            return;
-                        } catch (Exception ex) {
-                            LOGGER.error("Exception writing to internal frame buffer", ex);
-                        }
-                        fb.close();
-                    }
-                };
+    public static class offerMapTask<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, offerMapTask_args, Boolean> {
+      public offerMapTask() {
+        super("offerMapTask");
+      }
+
+      public offerMapTask_args getEmptyArgsInstance() {
+        return new offerMapTask_args();
+      }
+
+      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Boolean>() { 
+          public void onComplete(Boolean o) {
+            offerMapTask_result result = new offerMapTask_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            offerMapTask_result result = new offerMapTask_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
             }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, offerMapTask_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
+        iface.offerMapTask(args.jobId,args.split,resultHandler);
+      }
+    }
 
-            protected boolean isOneway() {
-                return false;
+    public static class getLoad<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getLoad_args, NodeLoad> {
+      public getLoad() {
+        super("getLoad");
+      }
+
+      public getLoad_args getEmptyArgsInstance() {
+        return new getLoad_args();
+      }
+
+      public AsyncMethodCallback<NodeLoad> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<NodeLoad>() { 
+          public void onComplete(NodeLoad o) {
+            getLoad_result result = new getLoad_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getLoad_result result = new getLoad_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
             }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getLoad_args args, org.apache.thrift.async.AsyncMethodCallback<NodeLoad> resultHandler) throws TException {
+        iface.getLoad(resultHandler);
+      }
+    }
 
-            public void start(I iface, mapTask_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
-                iface.mapTask(args.fileName, resultHandler);
-            }
-        }
+    public static class sortTask<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, sortTask_args, String> {
+      public sortTask() {
+        super("sortTask");
+      }
 
-        public static class sortTask<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, sortTask_args, String> {
-            public sortTask() {
-                super("sortTask");
-            }
+      public sortTask_args getEmptyArgsInstance() {
+        return new sortTask_args();
+      }
 
-            public sortTask_args getEmptyArgsInstance() {
-                return new sortTask_args();
+      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<String>() { 
+          public void onComplete(String o) {
+            sortTask_result result = new sortTask_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            sortTask_result result = new sortTask_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
             }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, sortTask_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
+        iface.sortTask(args.jobId,args.fileNames,args.results,args.limit,resultHandler);
+      }
+    }
 
-            public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-                final org.apache.thrift.AsyncProcessFunction fcall = this;
-                return new AsyncMethodCallback<String>() {
-                    public void onComplete(String o) {
-                        sortTask_result result = new sortTask_result();
-                        result.success = o;
-                        try {
-                            fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY, seqid);
-                            return;
-                        } catch (Exception e) {
-                            LOGGER.error("Exception writing to internal frame buffer", e);
-                        }
-                        fb.close();
-                    }
-
-                    public void onError(Exception e) {
-                        byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-                        org.apache.thrift.TBase msg;
-                        sortTask_result result = new sortTask_result();
-                        {
-                            msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-                            msg = (org.apache.thrift.TBase) new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-                        }
-                        try {
-                            fcall.sendResponse(fb, msg, msgType, seqid);
-                            return;
-                        } catch (Exception ex) {
-                            LOGGER.error("Exception writing to internal frame buffer", ex);
-                        }
-                        fb.close();
-                    }
-                };
-            }
+  }
 
-            protected boolean isOneway() {
-                return false;
-            }
+  public static class ping_args implements org.apache.thrift.TBase<ping_args, ping_args._Fields>, java.io.Serializable, Cloneable, Comparable<ping_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ping_args");
 
-            public void start(I iface, sortTask_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
-                iface.sortTask(args.fileNames, resultHandler);
-            }
-        }
 
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new ping_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new ping_argsTupleSchemeFactory());
     }
 
-    public static class ping_args implements org.apache.thrift.TBase<ping_args, ping_args._Fields>, java.io.Serializable, Cloneable, Comparable<ping_args> {
-        public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-        private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ping_args");
-        private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
 
-        static {
-            schemes.put(StandardScheme.class, new ping_argsStandardSchemeFactory());
-            schemes.put(TupleScheme.class, new ping_argsTupleSchemeFactory());
-        }
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(ping_args.class, metaDataMap);
+    }
 
-        static {
-            Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-            metaDataMap = Collections.unmodifiableMap(tmpMap);
-            org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(ping_args.class, metaDataMap);
-        }
+    public ping_args() {
+    }
 
-        public ping_args() {
-        }
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public ping_args(ping_args other) {
+    }
 
-        /**
-         * Performs a deep copy on <i>other</i>.
-         */
-        public ping_args(ping_args other) {
-        }
+    public ping_args deepCopy() {
+      return new ping_args(this);
+    }
 
-        public ping_args deepCopy() {
-            return new ping_args(this);
-        }
+    @Override
+    public void clear() {
+    }
 
-        @Override
-        public void clear() {
-        }
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
 
-        public void setFieldValue(_Fields field, Object value) {
-            switch (field) {
-            }
-        }
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
 
-        public Object getFieldValue(_Fields field) {
-            switch (field) {
-            }
-            throw new IllegalStateException();
-        }
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
 
-        /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
-        public boolean isSet(_Fields field) {
-            if (field == null) {
-                throw new IllegalArgumentException();
-            }
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
 
-            switch (field) {
-            }
-            throw new IllegalStateException();
-        }
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof ping_args)
+        return this.equals((ping_args)that);
+      return false;
+    }
 
-        @Override
-        public boolean equals(Object that) {
-            if (that == null)
-                return false;
-            if (that instanceof ping_args)
-                return this.equals((ping_args) that);
-            return false;
-        }
+    public boolean equals(ping_args that) {
+      if (that == null)
+        return false;
 
-        public boolean equals(ping_args that) {
-            return that != null;
-        }
+      return true;
+    }
 
-        @Override
-        public int hashCode() {
-            List<Object> list = new ArrayList<Object>();
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
 
-            return list.hashCode();
-        }
+      return list.hashCode();
+    }
 
-        @Override
-        public int compareTo(ping_args other) {
-            if (!getClass().equals(other.getClass())) {
-                return getClass().getName().compareTo(other.getClass().getName());
-            }
+    @Override
+    public int compareTo(ping_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
 
-            int lastComparison = 0;
+      int lastComparison = 0;
 
-            return 0;
-        }
+      return 0;
+    }
 
-        public _Fields fieldForId(int fieldId) {
-            return _Fields.findByThriftId(fieldId);
-        }
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
 
-        public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
-            schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
-        }
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
 
-        public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
-            schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
-        }
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
 
-        @Override
-        public String toString() {
-            StringBuilder sb = new StringBuilder("ping_args(");
-            boolean first = true;
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("ping_args(");
+      boolean first = true;
 
-            sb.append(")");
-            return sb.toString();
-        }
+      sb.append(")");
+      return sb.toString();
+    }
 
-        public void validate() throws org.apache.thrift.TException {
-            // check for required fields
-            // check for sub-struct validity
-        }
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
 
-        private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
-            try {
-                write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
-            } catch (org.apache.thrift.TException te) {
-                throw new java.io.IOException(te);
-            }
-        }
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
-        private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
-            try {
-                read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
-            } catch (org.apache.thrift.TException te) {
-                throw new java.io.IOException(te);
-            }
-        }
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
-        /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
-        public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-            ;
+    private static class ping_argsStandardSchemeFactory implements SchemeFactory {
+      public ping_argsStandardScheme getScheme() {
+        return new ping_argsStandardScheme();
+      }
+    }
 
-            private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+    private static class ping_argsStandardScheme extends StandardScheme<ping_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, ping_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, ping_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
 
-            static {
-                for (_Fields field : EnumSet.allOf(_Fields.class)) {
-                    byName.put(field.getFieldName(), field);
-                }
-            }
+    }
 
-            private final short _thriftId;
-            private final String _fieldName;
+    private static class ping_argsTupleSchemeFactory implements SchemeFactory {
+      public ping_argsTupleScheme getScheme() {
+        return new ping_argsTupleScheme();
+      }
+    }
 
-            _Fields(short thriftId, String fieldName) {
-                _thriftId = thriftId;
-                _fieldName = fieldName;
-            }
+    private static class ping_argsTupleScheme extends TupleScheme<ping_args> {
 
-            /**
-             * Find the _Fields constant that matches fieldId, or null if its not found.
-             */
-            public static _Fields findByThriftId(int fieldId) {
-                switch (fieldId) {
-                    default:
-                        return null;
-                }
-            }
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, ping_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
 
-            /**
-             * Find the _Fields constant that matches fieldId, throwing an exception
-             * if it is not found.
-             */
-            public static _Fields findByThriftIdOrThrow(int fieldId) {
-                _Fields fields = findByThriftId(fieldId);
-                if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-                return fields;
-            }
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, ping_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
 
-            /**
-             * Find the _Fields constant that matches name, or null if its not found.
-             */
-            public static _Fields findByName(String name) {
-                return byName.get(name);
-            }
+  }
 
-            public short getThriftFieldId() {
-                return _thriftId;
-            }
+  public static class ping_result implements org.apache.thrift.TBase<ping_result, ping_result._Fields>, java.io.Serializable, Cloneable, Comparable<ping_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ping_result");
 
-            public String getFieldName() {
-                return _fieldName;
-            }
-        }
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
 
-        private static class ping_argsStandardSchemeFactory implements SchemeFactory {
-            public ping_argsStandardScheme getScheme() {
-                return new ping_argsStandardScheme();
-            }
-        }
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new ping_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new ping_resultTupleSchemeFactory());
+    }
 
-        private static class ping_argsStandardScheme extends StandardScheme<ping_args> {
-
-            public void read(org.apache.thrift.protocol.TProtocol iprot, ping_args struct) throws org.apache.thrift.TException {
-                org.apache.thrift.protocol.TField schemeField;
-                iprot.readStructBegin();
-                while (true) {
-                    schemeField = iprot.readFieldBegin();
-                    if (schemeField.type == org.apache.thrift.protocol.TType.STOP) {
-                        break;
-                    }
-                    switch (schemeField.id) {
-                        default:
-                            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-                    }
-                    iprot.readFieldEnd();
-                }
-                iprot.readStructEnd();
+    public boolean success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
 
-                // check for required fields of primitive type, which can't be checked in the validate method
-                struct.validate();
-            }
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(ping_result.class, metaDataMap);
+    }
 
-            public void write(org.apache.thrift.protocol.TProtocol oprot, ping_args struct) throws org.apache.thrift.TException {
-                struct.validate();
+    public ping_result() {
+    }
 
-                oprot.writeStructBegin(STRUCT_DESC);
-                oprot.writeFieldStop();
-                oprot.writeStructEnd();
-            }
+    public ping_result(
+      boolean success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
 
-        }
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public ping_result(ping_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+    }
 
-        private static class ping_argsTupleSchemeFactory implements SchemeFactory {
-            public ping_argsTupleScheme getScheme() {
-                return new ping_argsTupleScheme();
-            }
-        }
+    public ping_result deepCopy() {
+      return new ping_result(this);
+    }
 
-        private static class ping_argsTupleScheme extends TupleScheme<ping_args> {
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+    }
 
-            @Override
-            public void write(org.apache.thrift.protocol.TProtocol prot, ping_args struct) throws org.apache.thrift.TException {
-                TTupleProtocol oprot = (TTupleProtocol) prot;
-            }
+    public boolean isSuccess() {
+      return this.success;
+    }
 
-            @Override
-            public void read(org.apache.thrift.protocol.TProtocol prot, ping_args struct) throws org.apache.thrift.TException {
-                TTupleProtocol iprot = (TTupleProtocol) prot;
-            }
-        }
+    public ping_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
 
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
-    public static class ping_result implements org.apache.thrift.TBase<ping_result, ping_result._Fields>, java.io.Serializable, Cloneable, Comparable<ping_result> {
-        public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-        private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ping_result");
-        private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short) 0);
-        private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
-        // isset id assignments
-        private static final int __SUCCESS_ISSET_ID = 0;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
 
-        static {
-            schemes.put(StandardScheme.class, new ping_resultStandardSchemeFactory());
-            schemes.put(TupleScheme.class, new ping_resultTupleSchemeFactory());
-        }
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
 
-        static {
-            Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-            tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT,
-                    new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-            metaDataMap = Collections.unmodifiableMap(tmpMap);
-            org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(ping_result.class, metaDataMap);
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Boolean)value);
         }
+        break;
 
-        public boolean success; // required
-        private byte __isset_bitfield = 0;
+      }
+    }
 
-        public ping_result() {
-        }
-
-        public ping_result(
-                boolean success) {
-            this();
-            this.success = success;
-            setSuccessIsSet(true);
-        }
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return isSuccess();
 
-        /**
-         * Performs a deep copy on <i>other</i>.
-         */
-        public ping_result(ping_result other) {
-            __isset_bitfield = other.__isset_bitfield;
-            this.success = other.success;
-        }
+      }
+      throw new IllegalStateException();
+    }
 
-        public ping_result deepCopy() {
-            return new ping_result(this);
-        }
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
 
-        @Override
-        public void clear() {
-            setSuccessIsSet(false);
-            this.success = false;
-        }
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof ping_result)
+        return this.equals((ping_result)that);
+      return false;
+    }
 
-        public boolean isSuccess() {
-            return this.success;
-        }
+    public boolean equals(ping_result that) {
+      if (that == null)
+        return false;
 
-        public ping_result setSuccess(boolean success) {
-            this.success = success;
-            setSuccessIsSet(true);
-            return this;
-        }
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
 
-        public void unsetSuccess() {
-            __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-        }
+      return true;
+    }
 
-        /** Returns true if field success is set (has been assigned a value) and false otherwise */
-        public boolean isSetSuccess() {
-            return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-        }
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
 
-        public void setSuccessIsSet(boolean value) {
-            __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
-        }
+      boolean present_success = true;
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
 
-        public void setFieldValue(_Fields field, Object value) {
-            switch (field) {
-                case SUCCESS:
-                    if (value == null) {
-                        unsetSuccess();
-                    } else {
-                        setSuccess((Boolean) value);
-                    }
-                    break;
+      return list.hashCode();
+    }
 
-            }
-        }
+    @Override
+    public int compareTo(ping_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
 
-        public Object getFieldValue(_Fields field) {
-            switch (field) {
-                case SUCCESS:
-                    return isSuccess();
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
 
-            }
-            throw new IllegalStateException();
-        }
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
 
-        /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
-        public boolean isSet(_Fields field) {
-            if (field == null) {
-                throw new IllegalArgumentException();
-            }
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
 
-            switch (field) {
-                case SUCCESS:
-                    return isSetSuccess();
-            }
-            throw new IllegalStateException();
-        }
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("ping_result(");
+      boolean first = true;
 
-        @Override
-        public boolean equals(Object that) {
-            if (that == null)
-                return false;
-            if (that instanceof ping_result)
-                return this.equals((ping_result) that);
-            return false;
-        }
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
 
-        public boolean equals(ping_result that) {
-            if (that == null)
-                return false;
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
 
-            boolean this_present_success = true;
-            boolean that_present_success = true;
-            if (this_present_success || that_present_success) {
-                if (!(this_present_success && that_present_success))
-                    return false;
-                return this.success == that.success;
-            }
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
-            return true;
-        }
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
-        @Override
-        public int hashCode() {
-            List<Object> list = new ArrayList<Object>();
+    private static class ping_resultStandardSchemeFactory implements SchemeFactory {
+      public ping_resultStandardScheme getScheme() {
+        return new ping_resultStandardScheme();
+      }
+    }
 
-            boolean present_success = true;
-            list.add(present_success);
-            if (present_success)
-                list.add(success);
+    private static class ping_resultStandardScheme extends StandardScheme<ping_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, ping_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, ping_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBool(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
 
-            return list.hashCode();
-        }
+    }
 
-        @Override
-        public int compareTo(ping_result other) {
-            if (!getClass().equals(other.getClass())) {
-                return getClass().getName().compareTo(other.getClass().getName());
-            }
+    private static class ping_resultTupleSchemeFactory implements SchemeFactory {
+      public ping_resultTupleScheme getScheme() {
+        return new ping_resultTupleScheme();
+      }
+    }
 
-            int lastComparison = 0;
+    private static class ping_resultTupleScheme extends TupleScheme<ping_result> {
 
-            lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-            if (lastComparison != 0) {
-                return lastComparison;
-            }
-            if (isSetSuccess()) {
-                lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-                if (lastComparison != 0) {
-                    return lastComparison;
-                }
-            }
-            return 0;
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, ping_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
         }
-
-        public _Fields fieldForId(int fieldId) {
-            return _Fields.findByThriftId(fieldId);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
         }
+      }
 
-        public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
-            schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, ping_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBool();
+          struct.setSuccessIsSet(true);
         }
+      }
+    }
 
-        public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
-            schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
-        }
+  }
 
-        @Override
-        public String toString() {
-            StringBuilder sb = new StringBuilder("ping_result(");
-            boolean first = true;
+  public static class mapTask_args implements org.apache.thrift.TBase<mapTask_args, mapTask_args._Fields>, java.io.Serializable, Cloneable, Comparable<mapTask_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mapTask_args");
 
-            sb.append("success:");
-            sb.append(this.success);
-            first = false;
-            sb.append(")");
-            return sb.toString();
-        }
+    private static final org.apache.thrift.protocol.TField JOB_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("jobId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField SPLIT_FIELD_DESC = new org.apache.thrift.protocol.TField("split", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
-        public void validate() throws org.apache.thrift.TException {
-            // check for required fields
-            // check for sub-struct validity
-        }
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new mapTask_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mapTask_argsTupleSchemeFactory());
+    }
 
-        private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
-            try {
-                write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
-            } catch (org.apache.thrift.TException te) {
-                throw new java.io.IOException(te);
-            }
-        }
+    public String jobId; // required
+    public InputSplit split; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      JOB_ID((short)1, "jobId"),
+      SPLIT((short)2, "split");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // JOB_ID
+            return JOB_ID;
+          case 2: // SPLIT
+            return SPLIT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
 
-        private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
-            try {
-                // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-                __isset_bitfield = 0;
-                read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
-            } catch (org.apache.thrift.TException te) {
-                throw new java.io.IOException(te);
-            }
-        }
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.JOB_ID, new org.apache.thrift.meta_data.FieldMetaData("jobId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SPLIT, new org.apache.thrift.meta_data.FieldMetaData("split", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InputSplit.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mapTask_args.class, metaDataMap);
+    }
 
-        /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
-        public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-            SUCCESS((short) 0, "success");
+    public mapTask_args() {
+    }
 
-            private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+    public mapTask_args(
+      String jobId,
+      InputSplit split)
+    {
+      this();
+      this.jobId = jobId;
+      this.split = split;
+    }
 
-            static {
-                for (_Fields field : EnumSet.allOf(_Fields.class)) {
-                    byName.put(field.getFieldName(), field);
-                }
-            }
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public mapTask_args(mapTask_args other) {
+      if (other.isSetJobId()) {
+        this.jobId = other.jobId;
+      }
+      if (other.isSetSplit()) {
+        this.split = new InputSplit(other.split);
+      }
+    }
 
-            private final short _thriftId;
-            private final String _fieldName;
+    public mapTask_args deepCopy() {
+      return new mapTask_args(this);
+    }
 
-            _Fields(short thriftId, String fieldName) {
-                _thriftId = thriftId;
-                _fieldName = fieldName;
-            }
+    @Override
+    public void clear() {
+      this.jobId = null;
+      this.split = null;
+    }
 
-            /**
-             * Find the _Fields constant that matches fieldId, or null if its not found.
-             */
-            public static _Fields findByThriftId(int fieldId) {
-                switch (fieldId) {
-                    case 0: // SUCCESS
-                        return SUCCESS;
-                    default:
-                        return null;
-                }
-            }
+    public String getJobId() {
+      return this.jobId;
+    }
 
-            /**
-             * Find the _Fields constant that matches fieldId, throwing an exception
-             * if it is not found.
-             */
-            public static _Fields findByThriftIdOrThrow(int fieldId) {
-                _Fields fields = findByThriftId(fieldId);
-                if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-                return fields;
-            }
+    public mapTask_args setJobId(String jobId) {
+      this.jobId = jobId;
+      return this;
+    }
 
-            /**
-             * Find the _Fields constant that matches name, or null if its not found.
-             */
-            public static _Fields findByName(String name) {
-                return byName.get(name);
-            }
+    public void unsetJobId() {
+      this.jobId = null;
+    }
 
-            public short getThriftFieldId() {
-                return _thriftId;
-            }
+    /** Returns true if field jobId is set (has been assigned a value) and false otherwise */
+    public boolean isSetJobId() {
+      return this.jobId != null;
+    }
 
-            public String getFieldName() {
-                return _fieldName;
-            }
-        }
+    public void setJobIdIsSet(boolean value) {
+      if (!value) {
+        this.jobId = null;
+      }
+    }
 
-        private static class ping_resultStandardSchemeFactory implements SchemeFactory {
-            public ping_resultStandardScheme getScheme() {
-                return new ping_resultStandardScheme();
-            }
-        }
+    public InputSplit getSplit() {
+      return this.split;
+    }
 
-        private static class ping_resultStandardScheme extends StandardScheme<ping_result> {
-
-            public void read(org.apache.thrift.protocol.TProtocol iprot, ping_result struct) throws org.apache.thrift.TException {
-                org.apache.thrift.protocol.TField schemeField;
-                iprot.readStructBegin();
-                while (true) {
-                    schemeField = iprot.readFieldBegin();
-                    if (schemeField.type == org.apache.thrift.protocol.TType.STOP) {
-                        break;
-                    }
-                    switch (schemeField.id) {
-                        case 0: // SUCCESS
-                            if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                                struct.success = iprot.readBool();
-                                struct.setSuccessIsSet(true);
-                            } else {
-                                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-                            }
-                            break;
-                        default:
-                            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-                    }
-                    iprot.readFieldEnd();
-                }
-                iprot.readStructEnd();
+    public mapTask_args setSplit(InputSplit split) {
+      this.split = split;
+      return this;
+    }
 
-                // check for required fields of primitive type, which can't be checked in the validate method
-                struct.validate();
-            }
+    public void unsetSplit() {
+      this.split = null;
+    }
 
-            public void write(org.apache.thrift.protocol.TProtocol oprot, ping_result struct) throws org.apache.thrift.TException {
-                struct.validate();
+    /** Returns true if field split is set (has been assigned a value) and false otherwise */
+    public boolean isSetSplit() {
+      return this.split != null;
+    }
 
-                oprot.writeStructBegin(STRUCT_DESC);
-                if (struct.isSetSuccess()) {
-                    oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-                    oprot.writeBool(struct.success);
-                    oprot.writeFieldEnd();
-                }
-                oprot.writeFieldStop();
-                oprot.writeStructEnd();
-            }
+    public void setSplitIsSet(boolean value) {
+      if (!value) {
+        this.split = null;
+      }
+    }
 
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case JOB_ID:
+        if (value == null) {
+          unsetJobId();
+        } else {
+          setJobId((String)value);
         }
+        break;
 
-        private static class ping_resultTupleSchemeFactory implements SchemeFactory {
-            public ping_resultTupleScheme getScheme() {
-                return new ping_resultTupleScheme();
-            }
+      case SPLIT:
+        if (value == null) {
+          unsetSplit();
+        } else {
+          setSplit((InputSplit)value);
         }
+        break;
 
-        private static class ping_resultTupleScheme extends TupleScheme<ping_result> {
+      }
+    }
 
-            @Override
-            public void write(org.apache.thrift.protocol.TProtocol prot, ping_result struct) throws org.apache.thrift.TException {
-                TTupleProtocol oprot = (TTupleProtocol) prot;
-                BitSet optionals = new BitSet();
-                if (struct.isSetSuccess()) {
-                    optionals.set(0);
-                }
-                oprot.writeBitSet(optionals, 1);
-                if (struct.isSetSuccess()) {
-                    oprot.writeBool(struct.success);
-                }
-            }
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case JOB_ID:
+        return getJobId();
 
-            @Override
-            public void read(org.apache.thrift.protocol.TProtocol prot, ping_result struct) throws org.apache.thrift.TException {
-                TTupleProtocol iprot = (TTupleProtocol) prot;
-                BitSet incoming = iprot.readBitSet(1);
-                if (incoming.get(0)) {
-                    struct.success = iprot.readBool();
-                    struct.setSuccessIsSet(true);
-                }
-            }
-        }
+      case SPLIT:
+        return getSplit();
 
+      }
+      throw new IllegalStateException();
     }
 
-    public static class mapTask_args implements org.apache.thrift.TBase<mapTask_args, mapTask_args._Fields>, java.io.Serializable, Cloneable, Comparable<mapTask_args> {
-        // isset id assignments
-        public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-        private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mapTask_args");
-        private static final org.apache.thrift.protocol.TField FILE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("fileName", org.apache.thrift.protocol.TType.STRING, (short) 1);
-        private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case JOB_ID:
+        return isSetJobId();
+      case SPLIT:
+        return isSetSplit();
+      }
+      throw new IllegalStateException();
+    }
 
-        static {
-            schemes.put(StandardScheme.class, new mapTask_argsStandardSchemeFactory());
-            schemes.put(TupleScheme.class, new mapTask_argsTupleSchemeFactory());
-        }
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof mapTask_args)
+        return this.equals((mapTask_args)that);
+      return false;
+    }
 
-        static {
-            Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-            tmpMap.put(_Fields.FILE_NAME, new org.apache.thrift.meta_data.FieldMetaData("fileName", org.apache.thrift.TFieldRequirementType.DEFAULT,
-                    new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-            metaDataMap = Collections.unmodifiableMap(tmpMap);
-            org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mapTask_args.class, metaDataMap);
-        }
+    public boolean equals(mapTask_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_jobId = true && this.isSetJobId();
+      boolean that_present_jobId = true && that.isSetJobId();
+      if (this_present_jobId || that_present_jobId) {
+        if (!(this_present_jobId && that_present_jobId))
+          return false;
+        if (!this.jobId.equals(that.jobId))
+          return false;
+      }
+
+      boolean this_present_split = true && this.isSetSplit();
+      boolean that_present_split = true && that.isSetSplit();
+      if (this_present_split || that_present_split) {
+        if (!(this_present_split && that_present_split))
+          return false;
+        if (!this.split.equals(that.split))
+          return false;
+      }
+
+      return true;
+    }
 
-        public String fileName; // required
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
 
-        public mapTask_args() {
-        }
+      boolean present_jobId = true && (isSetJobId());
+      list.add(present_jobId);
+      if (present_jobId)
+        list.add(jobId);
 
-        public mapTask_args(
-                String fileName) {
-            this();
-            this.fileName = fileName;
-        }
+      boolean present_split = true && (isSetSplit());
+      list.add(present_split);
+      if (present_split)
+        list.add(split);
 
-        /**
-         * Performs a deep copy on <i>other</i>.
-         */
-        public mapTask_args(mapTask_args other) {
-            if (other.isSetFileName()) {
-                this.fileName = other.fileName;
-            }
-        }
+      return list.hashCode();
+    }
 
-        public mapTask_args deepCopy() {
-            return new mapTask_args(this);
-        }
+    @Override
+    public int compareTo(mapTask_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetJobId()).compareTo(other.isSetJobId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJobId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobId, other.jobId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSplit()).compareTo(other.isSetSplit());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSplit()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.split, other.split);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
 
-        @Override
-        public void clear() {
-            this.fileName = null;
-        }
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
 
-        public String getFileName() {
-            return this.fileName;
-        }
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
 
-        public mapTask_args setFileName(String fileName) {
-            this.fileName = fileName;
-            return this;
-        }
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
 
-        public void unsetFileName() {
-            this.fileName = null;
-        }
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("mapTask_args(");
+      boolean first = true;
+
+      sb.append("jobId:");
+      if (this.jobId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("split:");
+      if (this.split == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.split);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
 
-        /** Returns true if field fileName is set (has been assigned a value) and false otherwise */
-        public boolean isSetFileName() {
-            return this.fileName != null;
-        }
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (split != null) {
+        split.validate();
+      }
+    }
 
-        public void setFileNameIsSet(boolean value) {
-            if (!value) {
-                this.fileName = null;
-            }
-        }
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
-        public void setFieldValue(_Fields field, Object value) {
-            switch (field) {
-                case FILE_NAME:
-                    if (value == null) {
-                        unsetFileName();
-                    } else {
-                        setFileName((String) value);
-                    }
-                    break;
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
-            }
-        }
+    private static class mapTask_argsStandardSchemeFactory implements SchemeFactory {
+      public mapTask_argsStandardScheme getScheme() {
+        return new mapTask_argsStandardScheme();
+      }
+    }
 
-        public Object getFieldValue(_Fields field) {
-            switch (field) {
-                case FILE_NAME:
-                    return getFileName();
+    private static class mapTask_argsStandardScheme extends StandardScheme<mapTask_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mapTask_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // JOB_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.jobId = iprot.readString();
+                struct.setJobIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // SPLIT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.split = new InputSplit();
+                struct.split.read(iprot);
+                struct.setSplitIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mapTask_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.jobId != null) {
+          oprot.writeFieldBegin(JOB_ID_FIELD_DESC);
+          oprot.writeString(struct.jobId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.split != null) {
+          oprot.writeFieldBegin(SPLIT_FIELD_DESC);
+          struct.split.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
 
-            }
-            throw new IllegalStateException();
-        }
+    }
 
-        /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
-        public boolean isSet(_Fields field) {
-            if (field == null) {
-                throw new IllegalArgumentException();
-            }
+    private static class mapTask_argsTupleSchemeFactory implements SchemeFactory {
+      public mapTask_argsTupleScheme getScheme() {
+        return new mapTask_argsTupleScheme();
+      }
+    }
 
-            switch (field) {
-                case FILE_NAME:
-                    return isSetFileName();
-            }
-            throw new IllegalStateException();
+    private static class mapTask_argsTupleScheme extends TupleScheme<mapTask_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, mapTask_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetJobId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSplit()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetJobId()) {
+          oprot.writeString(struct.jobId);
         }
+        if (struct.isSetSplit()) {
+          struct.split.write(oprot);
+        }
+      }
 
-        @Override
-        public boolean equals(Object that) {
-            if (that == null)
-                return false;
-            if (that instanceof mapTask_args)
-                return this.equals((mapTask_args) that);
-            return false;
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, mapTask_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.jobId = iprot.readString();
+          struct.setJobIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.split = new InputSplit();
+          struct.split.read(iprot);
+          struct.setSplitIsSet(true);
         }
+      }
+    }
 
-        public boolean equals(mapTask_args that) {
-            if (that == null)
-                return false;
+  }
 
-            boolean this_present_fileName = true && this.isSetFileName();
-            boolean that_present_fileName = true && that.isSetFileName();
-            if (this_present_fileName || that_present_fileName) {
-                if (!(this_present_fileName && that_present_fileName))
-                    return false;
-                return this.fileName.equals(that.fileName);
-            }
+  public static class mapTask_result implements org.apache.thrift.TBase<mapTask_result, mapTask_result._Fields>, java.io.Serializable, Cloneable, Comparable<mapTask_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mapTask_result");
 
-            return true;
-        }
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
 
-        @Override
-        public int hashCode() {
-            List<Object> list = new ArrayList<Object>();
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new mapTask_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mapTask_resultTupleSchemeFactory());
+    }
 
-            boolean present_fileName = true && (isSetFileName());
-            list.add(present_fileName);
-            if (present_fileName)
-                list.add(fileName);
+    public boolean success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
 
-            return list.hashCode();
-        }
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mapTask_result.class, metaDataMap);
+    }
 
-        @Override
-        public int compareTo(mapTask_args other) {
-            if (!getClass().equals(other.getClass())) {
-                return getClass().getName().compareTo(other.getClass().getName());
-            }
+    public mapTask_result() {
+    }
 
-            int lastComparison = 0;
+    public mapTask_result(
+      boolean success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
 
-            lastComparison = Boolean.valueOf(isSetFileName()).compareTo(other.isSetFileName());
-            if (lastComparison != 0) {
-                return lastComparison;
-            }
-            if (isSetFileName()) {
-                lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileName, other.fileName);
-                if (lastComparison != 0) {
-                    return lastComparison;
-                }
-            }
-            return 0;
-        }
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public mapTask_result(mapTask_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+    }
 
-        public _Fields fieldForId(int fieldId) {
-            return _Fields.findByThriftId(fieldId);
-        }
+    public mapTask_result deepCopy() {
+      return new mapTask_result(this);
+    }
 
-        public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
-            schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
-        }
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+    }
 
-        public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
-            schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
-        }
+    public boolean isSuccess() {
+      return this.success;
+    }
 
-        @Override
-        public String toString() {
-            StringBuilder sb = new StringBuilder("mapTask_args(");
-            boolean first = true;
+    public mapTask_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
 
-            sb.append("fileName:");
-            if (this.fileName == null) {
-                sb.append("null");
-            } else {
-                sb.append(this.fileName);
-            }
-            first = false;
-            sb.append(")");
-            return sb.toString();
-        }
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
 
-        public void validate() throws org.apache.thrift.TException {
-            // check for required fields
-            // check for sub-struct validity
-        }
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
 
-        private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
-            try {
-                write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
-            } catch (org.apache.thrift.TException te) {
-                throw new java.io.IOException(te);
-            }
-        }
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
 
-        private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
-            try {
-                read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
-            } catch (org.apache.thrift.TException te) {
-                throw new java.io.IOException(te);
-            }
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Boolean)value);
         }
+        break;
 
-        /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
-        public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-            FILE_NAME((short) 1, "fileName");
+      }
+    }
 
-            private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return isSuccess();
 
-            static {
-                for (_Fields field : EnumSet.allOf(_Fields.class)) {
-                    byName.put(field.getFieldName(), field);
-                }
-            }
+      }
+      throw new IllegalStateException();
+    }
 
-            private final short _thriftId;
-            private final String _fieldName;
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
 
-            _Fields(short thriftId, String fieldName) {
-                _thriftId = thriftId;
-                _fieldName = fieldName;
-            }
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof mapTask_result)
+        return this.equals((mapTask_result)that);
+      return false;
+    }
 
-            /**
-             * Find the _Fields constant that matches fieldId, or null if its not found.
-             */
-            public static _Fields findByThriftId(int fieldId) {
-                switch (fieldId) {
-                    case 1: // FILE_NAME
-                        return FILE_NAME;
-                    default:
-                        return null;
-                }
-            }
+    public boolean equals(mapTask_result that) {
+      if (that == null)
+        return false;
 
-            /**
-             * Find the _Fields constant that matches fieldId, throwing an exception
-             * if it is not found.
-             */
-            public static _Fields findByThriftIdOrThrow(int fieldId) {
-                _Fields fields = findByThriftId(fieldId);
-                if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-                return fields;
-            }
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
 
-            /**
-             * Find the _Fields constant that matches name, or null if its not found.
-             */
-            public static _Fields findByName(String name) {
-                return byName.get(name);
-            }
+      return true;
+    }
 
-            public short getThriftFieldId() {
-                return _thriftId;
-            }
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
 
-            public String getFieldName() {
-                return _fieldName;
-            }
-        }
+      boolean present_success = true;
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
 
-        private static class mapTask_argsStandardSchemeFactory implements SchemeFactory {
-            public mapTask_argsStandardScheme getScheme() {
-                return new mapTask_argsStandardScheme();
-            }
-        }
+      return list.hashCode();
+    }
 
-        private static class mapTask_argsStandardScheme extends StandardScheme<mapTask_args> {
-
-            public void read(org.apache.thrift.protocol.TProtocol iprot, mapTask_args struct) throws org.apache.thrift.TException {
-                org.apache.thrift.protocol.TField schemeField;
-                iprot.readStructBegin();
-                while (true) {
-                    schemeField = iprot.readFieldBegin();
-                    if (schemeField.type == org.apache.thrift.protocol.TType.STOP) {
-                        break;
-                    }
-                    switch (schemeField.id) {
-                        case 1: // FILE_NAME
-                            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                                struct.fileName = iprot.readString();
-                                struct.setFileNameIsSet(true);
-                            } else {
-                                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-                            }
-                            break;
-                        default:
-                            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-                    }
-                    iprot.readFieldEnd();
-                }
-                iprot.readStructEnd();
+    @Override
+    public int compareTo(mapTask_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
 
-                // check for required fields of primitive type, which can't be checked in the validate method
-                struct.validate();
-            }
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
 
-            public void write(org.apache.thrift.protocol.TProtocol oprot, mapTask_args struct) throws org.apache.thrift.TException {
-                struct.validate();
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
 
-                oprot.writeStructBegin(STRUCT_DESC);
-                if (struct.fileName != null) {
-                    oprot.writeFieldBegin(FILE_NAME_FIELD_DESC);
-                    oprot.writeString(struct.fileName);
-                    oprot.writeFieldEnd();
-                }
-                oprot.writeFieldStop();
-                oprot.writeStructEnd();
-            }
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
 
-        }
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("mapTask_result(");
+      boolean first = true;
 
-        private static class mapTask_argsTupleSchemeFactory implements SchemeFactory {
-            public mapTask_argsTupleScheme getScheme() {
-                return new mapTask_argsTupleScheme();
-            }
-        }
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
 
-        private static class mapTask_argsTupleScheme extends TupleScheme<mapTask_args> {
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
 
-            @Override
-            public void write(org.apache.thrift.protocol.TProtocol prot, mapTask_args struct) throws org.apache.thrift.TException {
-                TTupleProtocol oprot = (TTupleProtocol) prot;
-                BitSet optionals = new BitSet();
-                if (struct.isSetFileName()) {
-                    optionals.set(0);
-                }
-                oprot.writeBitSet(optionals, 1);
-                if (struct.isSetFileName()) {
-                    oprot.writeString(struct.fileName);
-                }
-            }
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
-            @Override
-            public void read(org.apache.thrift.protocol.TProtocol prot, mapTask_args struct) throws org.apache.thrift.TException {
-                TTupleProtocol iprot = (TTupleProtocol) prot;
-                BitSet incoming = iprot.readBitSet(1);
-                if (incoming.get(0)) {
-                    struct.fileName = iprot.readString();
-                    struct.setFileNameIsSet(true);
-                }
-            }
-        }
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
+    private static class mapTask_resultStandardSchemeFactory implements SchemeFactory {
+      public mapTask_resultStandardScheme getScheme() {
+        return new mapTask_resultStandardScheme();
+      }
     }
 
-    public static class mapTask_result implements org.apache.thrift.TBase<mapTask_result, mapTask_result._Fields>, java.io.Serializable, Cloneable, Comparable<mapTask_result> {
-        public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-        private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mapTask_result");
-        private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short) 0);
-        private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
-        // isset id assignments
-        private static final int __SUCCESS_ISSET_ID = 0;
+    private static class mapTask_resultStandardScheme extends StandardScheme<mapTask_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mapTask_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mapTask_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBool(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
 
-        static {
-            schemes.put(StandardScheme.class, new mapTask_resultStandardSchemeFactory());
-            schemes.put(TupleScheme.class, new mapTask_resultTupleSchemeFactory());
-        }
+    }
 
-        static {
-            Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-            tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT,
-                    new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-            metaDataMap = Collections.unmodifiableMap(tmpMap);
-            org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mapTask_result.class, metaDataMap);
-        }
+    private static class mapTask_resultTupleSchemeFactory implements SchemeFactory {
+      public mapTask_resultTupleScheme getScheme() {
+        return new mapTask_resultTupleScheme();
+      }
+    }
 
-        public boolean success; // required
-        private byte __isset_bitfield = 0;
+    private static class mapTask_resultTupleScheme extends TupleScheme<mapTask_result> {
 
-        public mapTask_result() {
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, mapTask_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
         }
-
-        public mapTask_result(
-                boolean success) {
-            this();
-            this.success = success;
-            setSuccessIsSet(true);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
         }
+      }
 
-        /**
-         * Performs a deep copy on <i>other</i>.
-         */
-        public mapTask_result(mapTask_result other) {
-            __isset_bitfield = other.__isset_bitfield;
-            this.success = other.success;
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, mapTask_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBool();
+          struct.setSuccessIsSet(true);
         }
+      }
+    }
 
-        public mapTask_result deepCopy() {
-            return new mapTask_result(this);
-        }
+  }
 
-        @Override
-        public void clear() {
-            setSuccessIsSet(false);
-            this.success = false;
-        }
+  public static class mapTasks_args implements org.apache.thrift.TBase<mapTasks_args, mapTasks_args._Fields>, java.io.Serializable, Cloneable, Comparable<mapTasks_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mapTasks_args");
 
-        public boolean isSuccess() {
-            return this.success;
-        }
+    private static final org.apache.thrift.protocol.TField JOB_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("jobId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField SPLITS_FIELD_DESC = new org.apache.thrift.protocol.TField("splits", org.apache.thrift.protocol.TType.LIST, (short)2);
 
-        public mapTask_result setSuccess(boolean success) {
-            this.success = success;
-            setSuccessIsSet(true);
-            return this;
-        }
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new mapTasks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mapTasks_argsTupleSchemeFactory());
+    }
 
-        public void unsetSuccess() {
-            __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-        }
+    public String jobId; // required
+    public List<InputSplit> splits; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      JOB_ID((short)1, "jobId"),
+      SPLITS((short)2, "splits");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // JOB_ID
+            return JOB_ID;
+          case 2: // SPLITS
+            return SPLITS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
 
-        /** Returns true if field success is set (has been assigned a value) and false otherwise */
-        public boolean isSetSuccess() {
-            return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-        }
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.JOB_ID, new org.apache.thrift.meta_data.FieldMetaData("jobId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SPLITS, new org.apache.thrift.meta_data.FieldMetaData("splits", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InputSplit.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mapTasks_args.class, metaDataMap);
+    }
 
-        public void setSuccessIsSet(boolean value) {
-            __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
-        }
+    public mapTasks_args() {
+    }
 
-        public void setFieldValue(_Fields field, Object value) {
-            switch (field) {
-                case SUCCESS:
-                    if (value == null) {
-                        unsetSuccess();
-                    } else {
-                        setSuccess((Boolean) value);
-                    }
-                    break;
+    public mapTasks_args(
+      String jobId,
+      List<InputSplit> splits)
+    {
+      this();
+      this.jobId = jobId;
+      this.splits = splits;
+    }
 
-            }
-        }
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public mapTasks_args(mapTasks_args other) {
+      if (other.isSetJobId()) {
+        this.jobId = other.jobId;
+      }
+      if (other.isSetSplits()) {
+        List<InputSplit> __this__splits = new ArrayList<InputSplit>(other.splits.size());
+        for (InputSplit other_element : other.splits) {
+          __this__splits.add(new InputSplit(other_element));
+        }
+        this.splits = __this__splits;
+      }
+    }
 
-        public Object getFieldValue(_Fields field) {
-            switch (field) {
-                case SUCCESS:
-                    return isSuccess();
+    public mapTasks_args deepCopy() {
+      return new mapTasks_args(this);
+    }
 
-            }
-            throw new IllegalStateException();
-        }
+    @Override
+    public void clear() {
+      this.jobId = null;
+      this.splits = null;
+    }
 
-        /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
-        public boolean isSet(_Fields field) {
-            if (field == null) {
-                throw new IllegalArgumentException();
-            }
+    public String getJobId() {
+      return this.jobId;
+    }
 
-            switch (field) {
-                case SUCCESS:
-                    return isSetSuccess();
-            }
-            throw new IllegalStateException();
-        }
+    public mapTasks_args setJobId(String jobId) {
+      this.jobId = jobId;
+      return this;
+    }
 
-        @Override
-        public boolean equals(Object that) {
-            if (that == null)
-                return false;
-            if (that instanceof mapTask_result)
-                return this.equals((mapTask_result) that);
-            return false;
-        }
+    public void unsetJobId() {
+      this.jobId = null;
+    }
 
-        public boolean equals(mapTask_result that) {
-            if (that == null)
-                return false;
+    /** Returns true if field jobId is set (has been assigned a value) and false otherwise */
+    public boolean isSetJobId() {
+      return this.jobId != null;
+    }
 
-            boolean this_present_success = true;
-            boolean that_present_success = true;
-            if (this_present_success || that_present_success) {
-                if (!(this_present_success && that_present_success))
-                    return false;
-                return this.success == that.success;
-            }
+    public void setJobIdIsSet(boolean value) {
+      if (!value) {
+        this.jobId = null;
+      }
+    }
 
-            return true;
-        }
+    public int getSplitsSize() {
+      return (this.splits == null) ? 0 : this.splits.size();
+    }
 
-        @Override
-        public int hashCode() {
-            List<Object> list = new ArrayList<Object>();
+    public java.util.Iterator<InputSplit> getSplitsIterator() {
+      return (this.splits == null) ? null : this.splits.iterator();
+    }
 
-            boolean present_success = true;
-            list.add(present_success);
-            if (present_success)
-                list.add(success);
+    public void addToSplits(InputSplit elem) {
+      if (this.splits == null) {
+        this.splits = new ArrayList<InputSplit>();
+      }
+      this.splits.add(elem);
+    }
 
-            return list.hashCode();
-        }
+    public List<InputSplit> getSplits() {
+      return this.splits;
+    }
 
-        @Override
-        public int compareTo(mapTask_result other) {
-            if (!getClass().equals(other.getClass())) {
-                return getClass().getName().compareTo(other.getClass().getName());
-            }
+    public mapTasks_args setSplits(List<InputSplit> splits) {
+      this.splits = splits;
+      return this;
+    }
 
-            int lastComparison = 0;
+    public void unsetSplits() {
+      this.splits = null;
+    }
 
-            lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-            if (lastComparison != 0) {
-                return lastComparison;
-            }
-            if (isSetSuccess()) {
-                lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-                if (lastComparison != 0) {
-                    return lastComparison;
-                }
-            }
-            return 0;
-        }
+    /** Returns true if field splits is set (has been assigned a value) and false otherwise */
+    public boolean isSetSplits() {
+      return this.splits != null;
+    }
 
-        public _Fields fieldForId(int fieldId) {
-            return _Fields.findByThriftId(fieldId);
-        }
+    public void setSplitsIsSet(boolean value) {
+      if (!value) {
+        this.splits = null;
+      }
+    }
 
-        public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
-            schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case JOB_ID:
+        if (value == null) {
+          unsetJobId();
+        } else {
+          setJobId((String)value);
         }
+        break;
 
-        public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
-            schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      case SPLITS:
+        if (value == null) {
+          unsetSplits();
+        } else {
+          setSplits((List<InputSplit>)value);
         }
+        break;
 
-        @Override
-        public String toString() {
-            StringBuilder sb = new StringBuilder("mapTask_result(");
-            boolean first = true;
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case JOB_ID:
+        return getJobId();
+
+      case SPLITS:
+        return getSplits();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case JOB_ID:
+        return isSetJobId();
+      case SPLITS:
+        return isSetSplits();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof mapTasks_args)
+        return this.equals((mapTasks_args)that);
+      return false;
+    }
+
+    public boolean equals(mapTasks_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_jobId = true && this.isSetJobId();
+      boolean that_present_jobId = true && that.isSetJobId();
+      if (this_present_jobId || that_present_jobId) {
+        if (!(this_present_jobId && that_present_jobId))
+          return false;
+        if (!this.jobId.equals(that.jobId))
+          return false;
+      }
+
+      boolean this_present_splits = true && this.isSetSplits();
+      boolean that_present_splits = true && that.isSetSplits();
+      if (this_present_splits || that_present_splits) {
+        if (!(this_present_splits && that_present_splits))
+          return false;
+        if (!this.splits.equals(that.splits))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_jobId = true && (isSetJobId());
+      list.add(present_jobId);
+      if (present_jobId)
+        list.add(jobId);
+
+      boolean present_splits = true && (isSetSplits());
+      list.add(present_splits);
+      if (present_splits)
+        list.add(splits);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(mapTasks_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetJobId()).compareTo(other.isSetJobId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJobId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobId, other.jobId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSplits()).compareTo(other.isSetSplits());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSplits()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.splits, other.splits);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
 
-            sb.append("success:");
-            sb.append(this.success);
-            first = false;
-            sb.append(")");
-            return sb.toString();
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("mapTasks_args(");
+      boolean first = true;
+
+      sb.append("jobId:");
+      if (this.jobId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("splits:");
+      if (this.splits == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.splits);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class mapTasks_argsStandardSchemeFactory implements SchemeFactory {
+      public mapTasks_argsStandardScheme getScheme() {
+        return new mapTasks_argsStandardScheme();
+      }
+    }
+
+    private static class mapTasks_argsStandardScheme extends StandardScheme<mapTasks_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mapTasks_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // JOB_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.jobId = iprot.readString();
+                struct.setJobIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // SPLITS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list32 = iprot.readListBegin();
+                  struct.splits = new ArrayList<InputSplit>(_list32.size);
+                  InputSplit _elem33;
+                  for (int _i34 = 0; _i34 < _list32.size; ++_i34)
+                  {
+                    _elem33 = new InputSplit();
+                    _elem33.read(iprot);
+                    struct.splits.add(_elem33);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSplitsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mapTasks_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.jobId != null) {
+          oprot.writeFieldBegin(JOB_ID_FIELD_DESC);
+          oprot.writeString(struct.jobId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.splits != null) {
+          oprot.writeFieldBegin(SPLITS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.splits.size()));
+            for (InputSplit _iter35 : struct.splits)
+            {
+              _iter35.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class mapTasks_argsTupleSchemeFactory implements SchemeFactory {
+      public mapTasks_argsTupleScheme getScheme() {
+        return new mapTasks_argsTupleScheme();
+      }
+    }
+
+    private static class mapTasks_argsTupleScheme extends TupleScheme<mapTasks_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, mapTasks_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetJobId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSplits()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetJobId()) {
+          oprot.writeString(struct.jobId);
+        }
+        if (struct.isSetSplits()) {
+          {
+            oprot.writeI32(struct.splits.size());
+            for (InputSplit _iter36 : struct.splits)
+            {
+              _iter36.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, mapTasks_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.jobId = iprot.readString();
+          struct.setJobIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list37 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.splits = new ArrayList<InputSplit>(_list37.size);
+            InputSplit _elem38;
+            for (int _i39 = 0; _i39 < _list37.size; ++_i39)
+            {
+              _elem38 = new InputSplit();
+              _elem38.read(iprot);
+              struct.splits.add(_elem38);
+            }
+          }
+          struct.setSplitsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class mapTasks_result implements org.apache.thrift.TBase<mapTasks_result, mapTasks_result._Fields>, java.io.Serializable, Cloneable, Comparable<mapTasks_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mapTasks_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new mapTasks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mapTasks_resultTupleSchemeFactory());
+    }
+
+    public List<Integer> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mapTasks_result.class, metaDataMap);
+    }
+
+    public mapTasks_result() {
+    }
+
+    public mapTasks_result(
+      List<Integer> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public mapTasks_result(mapTasks_result other) {
+      if (other.isSetSuccess()) {
+        List<Integer> __this__success = new ArrayList<Integer>(other.success);
+        this.success = __this__success;
+      }
+    }
+
+    public mapTasks_result deepCopy() {
+      return new mapTasks_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<Integer> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(int elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<Integer>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<Integer> getSuccess() {
+      return this.success;
+    }
+
+    public mapTasks_result setSuccess(List<Integer> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<Integer>)value);
         }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof mapTasks_result)
+        return this.equals((mapTasks_result)that);
+      return false;
+    }
+
+    public boolean equals(mapTasks_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(mapTasks_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("mapTasks_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class mapTasks_resultStandardSchemeFactory implements SchemeFactory {
+      public mapTasks_resultStandardScheme getScheme() {
+        return new mapTasks_resultStandardScheme();
+      }
+    }
+
+    private static class mapTasks_resultStandardScheme extends StandardScheme<mapTasks_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mapTasks_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list40 = iprot.readListBegin();
+                  struct.success = new ArrayList<Integer>(_list40.size);
+                  int _elem41;
+                  for (int _i42 = 0; _i42 < _list40.size; ++_i42)
+                  {
+                    _elem41 = iprot.readI32();
+                    struct.success.add(_elem41);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mapTasks_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, struct.success.size()));
+            for (int _iter43 : struct.success)
+            {
+              oprot.writeI32(_iter43);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class mapTasks_resultTupleSchemeFactory implements SchemeFactory {
+      public mapTasks_resultTupleScheme getScheme() {
+        return new mapTasks_resultTupleScheme();
+      }
+    }
+
+    private static class mapTasks_resultTupleScheme extends TupleScheme<mapTasks_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, mapTasks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (int _iter44 : struct.success)
+            {
+              oprot.writeI32(_iter44);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, mapTasks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list45 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, iprot.readI32());
+            struct.success = new ArrayList<Integer>(_list45.size);
+            int _elem46;
+            for (int _i47 = 0; _i47 < _list45.size; ++_i47)
+            {
+              _elem46 = iprot.readI32();
+              struct.success.add(_elem46);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class offerMapTask_args implements org.apache.thrift.TBase<offerMapTask_args, offerMapTask_args._Fields>, java.io.Serializable, Cloneable, Comparable<offerMapTask_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("offerMapTask_args");
+
+    private static final org.apache.thrift.protocol.TField JOB_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("jobId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField SPLIT_FIELD_DESC = new org.apache.thrift.protocol.TField("split", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new offerMapTask_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new offerMapTask_argsTupleSchemeFactory());
+    }
+
+    public String jobId; // required
+    public InputSplit split; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      JOB_ID((short)1, "jobId"),
+      SPLIT((short)2, "split");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // JOB_ID
+            return JOB_ID;
+          case 2: // SPLIT
+            return SPLIT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.JOB_ID, new org.apache.thrift.meta_data.FieldMetaData("jobId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SPLIT, new org.apache.thrift.meta_data.FieldMetaData("split", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InputSplit.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(offerMapTask_args.class, metaDataMap);
+    }
+
+    public offerMapTask_args() {
+    }
+
+    public offerMapTask_args(
+      String jobId,
+      InputSplit split)
+    {
+      this();
+      this.jobId = jobId;
+      this.split = split;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public offerMapTask_args(offerMapTask_args other) {
+      if (other.isSetJobId()) {
+        this.jobId = other.jobId;
+      }
+      if (other.isSetSplit()) {
+        this.split = new InputSplit(other.split);
+      }
+    }
+
+    public offerMapTask_args deepCopy() {
+      return new offerMapTask_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.jobId = null;
+      this.split = null;
+    }
+
+    public String getJobId() {
+      return this.jobId;
+    }
+
+    public offerMapTask_args setJobId(String jobId) {
+      this.jobId = jobId;
+      return this;
+    }
+
+    public void unsetJobId() {
+      this.jobId = null;
+    }
 
-        public void validate() throws org.apache.thrift.TException {
-            // check for required fields
-            // check for sub-struct validity
+    /** Returns true if field jobId is set (has been assigned a value) and false otherwise */
+    public boolean isSetJobId() {
+      return this.jobId != null;
+    }
+
+    public void setJobIdIsSet(boolean value) {
+      if (!value) {
+        this.jobId = null;
+      }
+    }
+
+    public InputSplit getSplit() {
+      return this.split;
+    }
+
+    public offerMapTask_args setSplit(InputSplit split) {
+      this.split = split;
+      return this;
+    }
+
+    public void unsetSplit() {
+      this.split = null;
+    }
+
+    /** Returns true if field split is set (has been assigned a value) and false otherwise */
+    public boolean isSetSplit() {
+      return this.split != null;
+    }
+
+    public void setSplitIsSet(boolean value) {
+      if (!value) {
+        this.split = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case JOB_ID:
+        if (value == null) {
+          unsetJobId();
+        } else {
+          setJobId((String)value);
         }
+        break;
 
-        private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
-            try {
-                write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
-            } catch (org.apache.thrift.TException te) {
-                throw new java.io.IOException(te);
-            }
+      case SPLIT:
+        if (value == null) {
+          unsetSplit();
+        } else {
+          setSplit((InputSplit)value);
         }
+        break;
 
-        private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
-            try {
-                // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-                __isset_bitfield = 0;
-                read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
-            } catch (org.apache.thrift.TException te) {
-                throw new java.io.IOException(te);
-            }
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case JOB_ID:
+        return getJobId();
+
+      case SPLIT:
+        return getSplit();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case JOB_ID:
+        return isSetJobId();
+      case SPLIT:
+        return isSetSplit();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof offerMapTask_args)
+        return this.equals((offerMapTask_args)that);
+      return false;
+    }
+
+    public boolean equals(offerMapTask_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_jobId = true && this.isSetJobId();
+      boolean that_present_jobId = true && that.isSetJobId();
+      if (this_present_jobId || that_present_jobId) {
+        if (!(this_present_jobId && that_present_jobId))
+          return false;
+        if (!this.jobId.equals(that.jobId))
+          return false;
+      }
+
+      boolean this_present_split = true && this.isSetSplit();
+      boolean that_present_split = true && that.isSetSplit();
+      if (this_present_split || that_present_split) {
+        if (!(this_present_split && that_present_split))
+          return false;
+        if (!this.split.equals(that.split))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_jobId = true && (isSetJobId());
+      list.add(present_jobId);
+      if (present_jobId)
+        list.add(jobId);
+
+      boolean present_split = true && (isSetSplit());
+      list.add(present_split);
+      if (present_split)
+        list.add(split);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(offerMapTask_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetJobId()).compareTo(other.isSetJobId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJobId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobId, other.jobId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSplit()).compareTo(other.isSetSplit());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSplit()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.split, other.split);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("offerMapTask_args(");
+      boolean first = true;
+
+      sb.append("jobId:");
+      if (this.jobId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("split:");
+      if (this.split == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.split);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (split != null) {
+        split.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class offerMapTask_argsStandardSchemeFactory implements SchemeFactory {
+      public offerMapTask_argsStandardScheme getScheme() {
+        return new offerMapTask_argsStandardScheme();
+      }
+    }
+
+    private static class offerMapTask_argsStandardScheme extends StandardScheme<offerMapTask_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, offerMapTask_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // JOB_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.jobId = iprot.readString();
+                struct.setJobIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // SPLIT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.split = new InputSplit();
+                struct.split.read(iprot);
+                struct.setSplitIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, offerMapTask_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.jobId != null) {
+          oprot.writeFieldBegin(JOB_ID_FIELD_DESC);
+          oprot.writeString(struct.jobId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.split != null) {
+          oprot.writeFieldBegin(SPLIT_FIELD_DESC);
+          struct.split.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class offerMapTask_argsTupleSchemeFactory implements SchemeFactory {
+      public offerMapTask_argsTupleScheme getScheme() {
+        return new offerMapTask_argsTupleScheme();
+      }
+    }
+
+    private static class offerMapTask_argsTupleScheme extends TupleScheme<offerMapTask_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, offerMapTask_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetJobId()) {
+          optionals.set(0);
         }
+        if (struct.isSetSplit()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetJobId()) {
+          oprot.writeString(struct.jobId);
+        }
+        if (struct.isSetSplit()) {
+          struct.split.write(oprot);
+        }
+      }
 
-        /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
-        public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-            SUCCESS((short) 0, "success");
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, offerMapTask_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.jobId = iprot.readString();
+          struct.setJobIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.split = new InputSplit();
+          struct.split.read(iprot);
+          struct.setSplitIsSet(true);
+        }
+      }
+    }
 
-            private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+  }
 
-            static {
-                for (_Fields field : EnumSet.allOf(_Fields.class)) {
-                    byName.put(field.getFieldName(), field);
-                }
-            }
+  public static class offerMapTask_result implements org.apache.thrift.TBase<offerMapTask_result, offerMapTask_result._Fields>, java.io.Serializable, Cloneable, Comparable<offerMapTask_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("offerMapTask_result");
 
-            private final short _thriftId;
-            private final String _fieldName;
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
 
-            _Fields(short thriftId, String fieldName) {
-                _thriftId = thriftId;
-                _fieldName = fieldName;
-            }
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new offerMapTask_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new offerMapTask_resultTupleSchemeFactory());
+    }
 
-            /**
-             * Find the _Fields constant that matches fieldId, or null if its not found.
-             */
-            public static _Fields findByThriftId(int fieldId) {
-                switch (fieldId) {
-                    case 0: // SUCCESS
-                        return SUCCESS;
-                    default:
-                        return null;
-                }
-            }
+    public boolean success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
 
-            /**
-             * Find the _Fields constant that matches fieldId, throwing an exception
-             * if it is not found.
-             */
-            public static _Fields findByThriftIdOrThrow(int fieldId) {
-                _Fields fields = findByThriftId(fieldId);
-                if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-                return fields;
-            }
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(offerMapTask_result.class, metaDataMap);
+    }
+
+    public offerMapTask_result() {
+    }
+
+    public offerMapTask_result(
+      boolean success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public offerMapTask_result(offerMapTask_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+    }
+
+    public offerMapTask_result deepCopy() {
+      return new offerMapTask_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+    }
+
+    public boolean isSuccess() {
+      return this.success;
+    }
+
+    public offerMapTask_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Boolean)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return isSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof offerMapTask_result)
+        return this.equals((offerMapTask_result)that);
+      return false;
+    }
+
+    public boolean equals(offerMapTask_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true;
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(offerMapTask_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("offerMapTask_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class offerMapTask_resultStandardSchemeFactory implements SchemeFactory {
+      public offerMapTask_resultStandardScheme getScheme() {
+        return new offerMapTask_resultStandardScheme();
+      }
+    }
+
+    private static class offerMapTask_resultStandardScheme extends StandardScheme<offerMapTask_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, offerMapTask_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, offerMapTask_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBool(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class offerMapTask_resultTupleSchemeFactory implements SchemeFactory {
+      public offerMapTask_resultTupleScheme getScheme() {
+        return new offerMapTask_resultTupleScheme();
+      }
+    }
+
+    private static class offerMapTask_resultTupleScheme extends TupleScheme<offerMapTask_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, offerMapTask_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, offerMapTask_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBool();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getLoad_args implements org.apache.thrift.TBase<getLoad_args, getLoad_args._Fields>, java.io.Serializable, Cloneable, Comparable<getLoad_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoad_args");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getLoad_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLoad_argsTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoad_args.class, metaDataMap);
+    }
+
+    public getLoad_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getLoad_args(getLoad_args other) {
+    }
+
+    public getLoad_args deepCopy() {
+      return new getLoad_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getLoad_args)
+        return this.equals((getLoad_args)that);
+      return false;
+    }
+
+    public boolean equals(getLoad_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getLoad_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getLoad_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getLoad_argsStandardSchemeFactory implements SchemeFactory {
+      public getLoad_argsStandardScheme getScheme() {
+        return new getLoad_argsStandardScheme();
+      }
+    }
+
+    private static class getLoad_argsStandardScheme extends StandardScheme<getLoad_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoad_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoad_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getLoad_argsTupleSchemeFactory implements SchemeFactory {
+      public getLoad_argsTupleScheme getScheme() {
+        return new getLoad_argsTupleScheme();
+      }
+    }
+
+    private static class getLoad_argsTupleScheme extends TupleScheme<getLoad_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLoad_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLoad_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class getLoad_result implements org.apache.thrift.TBase<getLoad_result, getLoad_result._Fields>, java.io.Serializable, Cloneable, Comparable<getLoad_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoad_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getLoad_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLoad_resultTupleSchemeFactory());
+    }
+
+    public NodeLoad success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, NodeLoad.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoad_result.class, metaDataMap);
+    }
+
+    public getLoad_result() {
+    }
+
+    public getLoad_result(
+      NodeLoad success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getLoad_result(getLoad_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new NodeLoad(other.success);
+      }
+    }
+
+    public getLoad_result deepCopy() {
+      return new getLoad_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public NodeLoad getSuccess() {
+      return this.success;
+    }
+
+    public getLoad_result setSuccess(NodeLoad success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((NodeLoad)value);
+        }
+        break;
+
+      }
+    }
 
-            /**
-             * Find the _Fields constant that matches name, or null if its not found.
-             */
-            public static _Fields findByName(String name) {
-                return byName.get(name);
-            }
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
 
-            public short getThriftFieldId() {
-                return _thriftId;
-            }
+      }
+      throw new IllegalStateException();
+    }
 
-            public String getFieldName() {
-                return _fieldName;
-            }
-        }
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
 
-        private static class mapTask_resultStandardSchemeFactory implements SchemeFactory {
-            public mapTask_resultStandardScheme getScheme() {
-                return new mapTask_resultStandardScheme();
-            }
-        }
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getLoad_result)
+        return this.equals((getLoad_result)that);
+      return false;
+    }
 
-        private static class mapTask_resultStandardScheme extends StandardScheme<mapTask_result> {
-
-            public void read(org.apache.thrift.protocol.TProtocol iprot, mapTask_result struct) throws org.apache.thrift.TException {
-                org.apache.thrift.protocol.TField schemeField;
-                iprot.readStructBegin();
-                while (true) {
-                    schemeField = iprot.readFieldBegin();
-                    if (schemeField.type == org.apache.thrift.protocol.TType.STOP) {
-                        break;
-                    }
-                    switch (schemeField.id) {
-                        case 0: // SUCCESS
-                            if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                                struct.success = iprot.readBool();
-                                struct.setSuccessIsSet(true);
-                            } else {
-                                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-                            }
-                            break;
-                        default:
-                            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-                    }
-                    iprot.readFieldEnd();
-                }
-                iprot.readStructEnd();
+    public boolean equals(getLoad_result that) {
+      if (that == null)
+        return false;
 
-                // check for required fields of primitive type, which can't be checked in the validate method
-                struct.validate();
-            }
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
 
-            public void write(org.apache.thrift.protocol.TProtocol oprot, mapTask_result struct) throws org.apache.thrift.TException {
-                struct.validate();
+      return true;
+    }
 
-                oprot.writeStructBegin(STRUCT_DESC);
-                if (struct.isSetSuccess()) {
-                    oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-                    oprot.writeBool(struct.success);
-                    oprot.writeFieldEnd();
-                }
-                oprot.writeFieldStop();
-                oprot.writeStructEnd();
-            }
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
 
-        }
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
 
-        private static class mapTask_resultTupleSchemeFactory implements SchemeFactory {
-            public mapTask_resultTupleScheme getScheme() {
-                return new mapTask_resultTupleScheme();
-            }
-        }
+      return list.hashCode();
+    }
 
-        private static class mapTask_resultTupleScheme extends TupleScheme<mapTask_result> {
+    @Override
+    public int compareTo(getLoad_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
 
-            @Override
-            public void write(org.apache.thrift.protocol.TProtocol prot, mapTask_result struct) throws org.apache.thrift.TException {
-                TTupleProtocol oprot = (TTupleProtocol) prot;
-                BitSet optionals = new BitSet();
-                if (struct.isSetSuccess()) {
-                    optionals.set(0);
-                }
-                oprot.writeBitSet(optionals, 1);
-                if (struct.isSetSuccess()) {
-                    oprot.writeBool(struct.success);
-                }
-            }
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
 
-            @Override
-            public void read(org.apache.thrift.protocol.TProtocol prot, mapTask_result struct) throws org.apache.thrift.TException {
-                TTupleProtocol iprot = (TTupleProtocol) prot;
-                BitSet incoming = iprot.readBitSet(1);
-                if (incoming.get(0)) {
-                    struct.success = iprot.readBool();
-                    struct.setSuccessIsSet(true);
-                }
-            }
-        }
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
 
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getLoad_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
     }
 
-    public static class sortTask_args implements org.apache.thrift.TBase<sortTask_args, sortTask_args._Fields>, java.io.Serializable, Cloneable, Comparable<sortTask_args> {
-        // isset id assignments
-        public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-        private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sortTask_args");
-        private static final org.apache.thrift.protocol.TField FILE_NAMES_FIELD_DESC = new org.apache.thrift.protocol.TField("fileNames", org.apache.thrift.protocol.TType.LIST, (short) 1);
-        private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
 
-        static {
-            schemes.put(StandardScheme.class, new sortTask_argsStandardSchemeFactory());
-            schemes.put(TupleScheme.class, new sortTask_argsTupleSchemeFactory());
-        }
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
-        static {
-            Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-            tmpMap.put(_Fields.FILE_NAMES, new org.apache.thrift.meta_data.FieldMetaData("fileNames", org.apache.thrift.TFieldRequirementType.DEFAULT,
-                    new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST,
-                            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
-            metaDataMap = Collections.unmodifiableMap(tmpMap);
-            org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sortTask_args.class, metaDataMap);
-        }
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
-        public List<String> fileNames; // required
+    private static class getLoad_resultStandardSchemeFactory implements SchemeFactory {
+      public getLoad_resultStandardScheme getScheme() {
+        return new getLoad_resultStandardScheme();
+      }
+    }
 
-        public sortTask_args() {
-        }
+    private static class getLoad_resultStandardScheme extends StandardScheme<getLoad_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoad_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new NodeLoad();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoad_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
 
-        public sortTask_args(
-                List<String> fileNames) {
-            this();
-            this.fileNames = fileNames;
-        }
+    }
 
-        /**
-         * Performs a deep copy on <i>other</i>.
-         */
-        public sortTask_args(sortTask_args other) {
-            if (other.isSetFileNames()) {
-                List<String> __this__fileNames = new ArrayList<String>(other.fileNames);
-                this.fileNames = __this__fileNames;
-            }
-        }
+    private static class getLoad_resultTupleSchemeFactory implements SchemeFactory {
+      public getLoad_resultTupleScheme getScheme() {
+        return new getLoad_resultTupleScheme();
+      }
+    }
 
-        public sortTask_args deepCopy() {
-            return new sortTask_args(this);
-        }
+    private static class getLoad_resultTupleScheme extends TupleScheme<getLoad_result> {
 
-        @Override
-        public void clear() {
-            this.fileNames = null;
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLoad_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
         }
-
-        public int getFileNamesSize() {
-            return (this.fileNames == null) ? 0 : this.fileNames.size();
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
         }
+      }
 
-        public java.util.Iterator<String> getFileNamesIterator() {
-            return (this.fileNames == null) ? null : this.fileNames.iterator();
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLoad_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new NodeLoad();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
         }
+      }
+    }
 
-        public void addToFileNames(String elem) {
-            if (this.fileNames == null) {
-                this.fileNames = new ArrayList<String>();
-            }
-            this.fileNames.add(elem);
-        }
+  }
 
-        public List<String> getFileNames() {
-            return this.fileNames;
-        }
+  public static class sortTask_args implements org.apache.thrift.TBase<sortTask_args, sortTask_args._Fields>, java.io.Serializable, Cloneable, Comparable<sortTask_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sortTask_args");
 
-        public sortTask_args setFileNames(List<String> fileNames) {
-            this.fileNames = fileNames;
-            return this;
-        }
+    private static final org.apache.thrift.protocol.TField JOB_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("jobId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField FILE_NAMES_FIELD_DESC = new org.apache.thrift.protocol.TField("fileNames", org.apache.thrift.protocol.TType.LIST, (short)2);
+    private static final org.apache.thrift.protocol.TField RESULTS_FIELD_DESC = new org.apache.thrift.protocol.TField("results", org.apache.thrift.protocol.TType.LIST, (short)3);
+    private static final org.apache.thrift.protocol.TField LIMIT_FIELD_DESC = new org.apache.thrift.protocol.TField("limit", org.apache.thrift.protocol.TType.I32, (short)4);
 
-        public void unsetFileNames() {
-            this.fileNames = null;
-        }
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new sortTask_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new sortTask_argsTupleSchemeFactory());
+    }
 
-        /** Returns true if field fileNames is set (has been assigned a value) and false otherwise */
-        public boolean isSetFileNames() {
-            return this.fileNames != null;
-        }
+    public String jobId; // required
+    public List<String> fileNames; // required
+    public List<SentimentResult> results; // required
+    public int limit; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      JOB_ID((short)1, "jobId"),
+      FILE_NAMES((short)2, "fileNames"),
+      RESULTS((short)3, "results"),
+      LIMIT((short)4, "limit");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // JOB_ID
+            return JOB_ID;
+          case 2: // FILE_NAMES
+            return FILE_NAMES;
+          case 3: // RESULTS
+            return RESULTS;
+          case 4: // LIMIT
+            return LIMIT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
 
-        public void setFileNamesIsSet(boolean value) {
-            if (!value) {
-                this.fileNames = null;
-            }
-        }
+    // isset id assignments
+    private static final int __LIMIT_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.JOB_ID, new org.apache.thrift.meta_data.FieldMetaData("jobId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.FILE_NAMES, new org.apache.thrift.meta_data.FieldMetaData("fileNames", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.RESULTS, new org.apache.thrift.meta_data.FieldMetaData("results", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, SentimentResult.class))));
+      tmpMap.put(_Fields.LIMIT, new org.apache.thrift.meta_data.FieldMetaData("limit", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sortTask_args.class, metaDataMap);
+    }
 
-        public void setFieldValue(_Fields field, Object value) {
-            switch (field) {
-                case FILE_NAMES:
-                    if (value == null) {
-                        unsetFileNames();
-                    } else {
-                        setFileNames((List<String>) value);
-                    }
-                    break;
+    public sortTask_args() {
+    }
 
-            }
-        }
+    public sortTask_args(
+      String jobId,
+      List<String> fileNames,
+      List<SentimentResult> results,
+      int limit)
+    {
+      this();
+      this.jobId = jobId;
+      this.fileNames = fileNames;
+      this.results = results;
+      this.limit = limit;
+      setLimitIsSet(true);
+    }
 
-        public Object getFieldValue(_Fields field) {
-            switch (field) {
-                case FILE_NAMES:
-                    return getFileNames();
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public sortTask_args(sortTask_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetJobId()) {
+        this.jobId = other.jobId;
+      }
+      if (other.isSetFileNames()) {
+        List<String> __this__fileNames = new ArrayList<String>(other.fileNames);
+        this.fileNames = __this__fileNames;
+      }
+      if (other.isSetResults()) {
+        List<SentimentResult> __this__results = new ArrayList<SentimentResult>(other.results.size());
+        for (SentimentResult other_element : other.results) {
+          __this__results.add(new SentimentResult(other_element));
+        }
+        this.results = __this__results;
+      }
+      this.limit = other.limit;
+    }
 
-            }
-            throw new IllegalStateException();
-        }
+    public sortTask_args deepCopy() {
+      return new sortTask_args(this);
+    }
 
-        /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
-        public boolean isSet(_Fields field) {
-            if (field == null) {
-                throw new IllegalArgumentException();
-            }
+    @Override
+    public void clear() {
+      this.jobId = null;
+      this.fileNames = null;
+      this.results = null;
+      setLimitIsSet(false);
+      this.limit = 0;
+    }
 
-            switch (field) {
-                case FILE_NAMES:
-                    return isSetFileNames();
-            }
-            throw new IllegalStateException();
-        }
+    public String getJobId() {
+      return this.jobId;
+    }
 
-        @Override
-        public boolean equals(Object that) {
-            if (that == null)
-                return false;
-            if (that instanceof sortTask_args)
-                return this.equals((sortTask_args) that);
-            return false;
-        }
+    public sortTask_args setJobId(String jobId) {
+      this.jobId = jobId;
+      return this;
+    }
 
-        public boolean equals(sortTask_args that) {
-            if (that == null)
-                return false;
+    public void unsetJobId() {
+      this.jobId = null;
+    }
 
-            boolean this_present_fileNames = true && this.isSetFileNames();
-            boolean that_present_fileNames = true && that.isSetFileNames();
-            if (this_present_fileNames || that_present_fileNames) {
-                if (!(this_present_fileNames && that_present_fileNames))
-                    return false;
-                return this.fileNames.equals(that.fileNames);
-            }
+    /** Returns true if field jobId is set (has been assigned a value) and false otherwise */
+    public boolean isSetJobId() {
+      return this.jobId != null;
+    }
 
-            return true;
-        }
+    public void setJobIdIsSet(boolean value) {
+      if (!value) {
+        this.jobId = null;
+      }
+    }
 
-        @Override
-        public int hashCode() {
-            List<Object> list = new ArrayList<Object>();
+    public int getFileNamesSize() {
+      return (this.fileNames == null) ? 0 : this.fileNames.size();
+    }
 
-            boolean present_fileNames = true && (isSetFileNames());
-            list.add(present_fileNames);
-            if (present_fileNames)
-                list.add(fileNames);
+    public java.util.Iterator<String> getFileNamesIterator() {
+      return (this.fileNames == null) ? null : this.fileNames.iterator();
+    }
 
-            return list.hashCode();
-        }
+    public void addToFileNames(String elem) {
+      if (this.fileNames == null) {
+        this.fileNames = new ArrayList<String>();
+      }
+      this.fileNames.add(elem);
+    }
 
-        @Override
-        public int compareTo(sortTask_args other) {
-            if (!getClass().equals(other.getClass())) {
-                return getClass().getName().compareTo(other.getClass().getName());
-            }
+    public List<String> getFileNames() {
+      return this.fileNames;
+    }
 
-            int lastComparison = 0;
+    public sortTask_args setFileNames(List<String> fileNames) {
+      this.fileNames = fileNames;
+      return this;
+    }
 
-            lastComparison = Boolean.valueOf(isSetFileNames()).compareTo(other.isSetFileNames());
-            if (lastComparison != 0) {
-                return lastComparison;
-            }
-            if (isSetFileNames()) {
-                lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileNames, other.fileNames);
-                if (lastComparison != 0) {
-                    return lastComparison;
-                }
-            }
-            return 0;
-        }
+    public void unsetFileNames() {
+      this.fileNames = null;
+    }
 
-        public _Fields fieldForId(int fieldId) {
-            return _Fields.findByThriftId(fieldId);
-        }
+    /** Returns true if field fileNames is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileNames() {
+      return this.fileNames != null;
+    }
 
-        public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
-            schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
-        }
+    public void setFileNamesIsSet(boolean value) {
+      if (!value) {
+        this.fileNames = null;
+      }
+    }
 
-        public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
-            schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
-        }
+    public int getResultsSize() {
+      return (this.results == null) ? 0 : this.results.size();
+    }
 
-        @Override
-        public String toString() {
-            StringBuilder sb = new StringBuilder("sortTask_args(");
-            boolean first = true;
+    public java.util.Iterator<SentimentResult> getResultsIterator() {
+      return (this.results == null) ? null : this.results.iterator();
+    }
 
-            sb.append("fileNames:");
-            if (this.fileNames == null) {
-                sb.append("null");
-            } else {
-                sb.append(this.fileNames);
-            }
-            first = false;
-            sb.append(")");
-            return sb.toString();
-        }
+    public void addToResults(SentimentResult elem) {
+      if (this.results == null) {
+        this.results = new ArrayList<SentimentResult>();
+      }
+      this.results.add(elem);
+    }
 
-        public void validate() throws org.apache.thrift.TException {
-            // check for required fields
-            // check for sub-struct validity
-        }
+    public List<SentimentResult> getResults() {
+      return this.results;
+    }
 
-        private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
-            try {
-                write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
-            } catch (org.apache.thrift.TException te) {
-                throw new java.io.IOException(te);
-            }
-        }
+    public sortTask_args setResults(List<SentimentResult> results) {
+      this.results = results;
+      return this;
+    }
 
-        private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
-            try {
-                read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
-            } catch (org.apache.thrift.TException te) {
-                throw new java.io.IOException(te);
-            }
-        }
+    public void unsetResults() {
+      this.results = null;
+    }
 
-        /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
-        public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-            FILE_NAMES((short) 1, "fileNames");
+    /** Returns true if field results is set (has been assigned a value) and false otherwise */
+    public boolean isSetResults() {
+      return this.results != null;
+    }
 
-            private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+    public void setResultsIsSet(boolean value) {
+      if (!value) {
+        this.results = null;
+      }
+    }
 
-            static {
-                for (_Fields field : EnumSet.allOf(_Fields.class)) {
-                    byName.put(field.getFieldName(), field);
-                }
-            }
+    public int getLimit() {
+      return this.limit;
+    }
 
-            private final short _thriftId;
-            private final String _fieldName;
+    public sortTask_args setLimit(int limit) {
+      this.limit = limit;
+      setLimitIsSet(true);
+      return this;
+    }
 
-            _Fields(short thriftId, String fieldName) {
-                _thriftId = thriftId;
-                _fieldName = fieldName;
-            }
+    public void unsetLimit() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LIMIT_ISSET_ID);
+    }
 
-            /**
-             * Find the _Fields constant that matches fieldId, or null if its not found.
-             */
-            public static _Fields findByThriftId(int fieldId) {
-                switch (fieldId) {
-                    case 1: // FILE_NAMES
-                        return FILE_NAMES;
-                    default:
-                        return null;
-                }
-            }
+    /** Returns true if field limit is set (has been assigned a value) and false otherwise */
+    public boolean isSetLimit() {
+      return EncodingUtils.testBit(__isset_bitfield, __LIMIT_ISSET_ID);
+    }
 
-            /**
-             * Find the _Fields constant that matches fieldId, throwing an exception
-             * if it is not found.
-             */
-            public static _Fields findByThriftIdOrThrow(int fieldId) {
-                _Fields fields = findByThriftId(fieldId);
-                if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-                return fields;
-            }
+    public void setLimitIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LIMIT_ISSET_ID, value);
+    }
 
-            /**
-             * Find the _Fields constant that matches name, or null if its not found.
-             */
-            public static _Fields findByName(String name) {
-                return byName.get(name);
-            }
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case JOB_ID:
+        if (value == null) {
+          unsetJobId();
+        } else {
+          setJobId((String)value);
+        }
+        break;
 
-            public short getThriftFieldId() {
-                return _thriftId;
-            }
+      case FILE_NAMES:
+        if (value == null) {
+          unsetFileNames();
+        } else {
+          setFileNames((List<String>)value);
+        }
+        break;
 
-            public String getFieldName() {
-                return _fieldName;
-            }
+      case RESULTS:
+        if (value == null) {
+          unsetResults();
+        } else {
+          setResults((List<SentimentResult>)value);
         }
+        break;
 
-        private static class sortTask_argsStandardSchemeFactory implements SchemeFactory {
-            public sortTask_argsStandardScheme getScheme() {
-                return new sortTask_argsStandardScheme();
-            }
+      case LIMIT:
+        if (value == null) {
+          unsetLimit();
+        } else {
+          setLimit((Integer)value);
         }
+        break;
 
-        private static class sortTask_argsStandardScheme extends StandardScheme<sortTask_args> {
-
-            public void read(org.apache.thrift.protocol.TProtocol iprot, sortTask_args struct) throws org.apache.thrift.TException {
-                org.apache.thrift.protocol.TField schemeField;
-                iprot.readStructBegin();
-                while (true) {
-                    schemeField = iprot.readFieldBegin();
-                    if (schemeField.type == org.apache.thrift.protocol.TType.STOP) {
-                        break;
-                    }
-                    switch (schemeField.id) {
-                        case 1: // FILE_NAMES
-                            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                                {
-                                    org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
-                                    struct.fileNames = new ArrayList<String>(_list8.size);
-                                    String _elem9;
-                                    for (int _i10 = 0; _i10 < _list8.size; ++_i10) {
-                                        _elem9 = iprot.readString();
-                                        struct.fileNames.add(_elem9);
-                                    }
-                                    iprot.readListEnd();
-                                }
-                                struct.setFileNamesIsSet(true);
-                            } else {
-                                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-                            }
-                            break;
-                        default:
-                            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-                    }
-                    iprot.readFieldEnd();
-                }
-                iprot.readStructEnd();
+      }
+    }
 
-                // check for required fields of primitive type, which can't be checked in the validate method
-                struct.validate();
-            }
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case JOB_ID:
+        return getJobId();
 
-            public void write(org.apache.thrift.protocol.TProtocol oprot, sortTask_args struct) throws org.apache.thrift.TException {
-                struct.validate();
-
-                oprot.writeStructBegin(STRUCT_DESC);
-                if (struct.fileNames != null) {
-                    oprot.writeFieldBegin(FILE_NAMES_FIELD_DESC);
-                    {
-                        oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.fileNames.size()));
-                        for (String _iter11 : struct.fileNames) {
-                            oprot.writeString(_iter11);
-                        }
-                        oprot.writeListEnd();
-                    }
-                    oprot.writeFieldEnd();
-                }
-                oprot.writeFieldStop();
-                oprot.writeStructEnd();
-            }
+      case FILE_NAMES:
+        return getFileNames();
 
-        }
+      case RESULTS:
+        return getResults();
 
-        private static class sortTask_argsTupleSchemeFactory implements SchemeFactory {
-            public sortTask_argsTupleScheme getScheme() {
-                return new sortTask_argsTupleScheme();
-            }
-        }
+      case LIMIT:
+        return getLimit();
 
-        private static class sortTask_argsTupleScheme extends TupleScheme<sortTask_args> {
+      }
+      throw new IllegalStateException();
+    }
 
-            @Override
-            public void write(org.apache.thrift.protocol.TProtocol prot, sortTask_args struct) throws org.apache.thrift.TException {
-                TTupleProtocol oprot = (TTupleProtocol) prot;
-                BitSet optionals = new BitSet();
-                if (struct.isSetFileNames()) {
-                    optionals.set(0);
-                }
-                oprot.writeBitSet(optionals, 1);
-                if (struct.isSetFileNames()) {
-                    {
-                        oprot.writeI32(struct.fileNames.size());
-                        for (String _iter12 : struct.fileNames) {
-                            oprot.writeString(_iter12);
-                        }
-                    }
-                }
-            }
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case JOB_ID:
+        return isSetJobId();
+      case FILE_NAMES:
+        return isSetFileNames();
+      case RESULTS:
+        return isSetResults();
+      case LIMIT:
+        return isSetLimit();
+      }
+      throw new IllegalStateException();
+    }
 
-            @Override
-            public void read(org.apache.thrift.protocol.TProtocol prot, sortTask_args struct) throws org.apache.thrift.TException {
-                TTupleProtocol iprot = (TTupleProtocol) prot;
-                BitSet incoming = iprot.readBitSet(1);
-                if (incoming.get(0)) {
-                    {
-                        org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-                        struct.fileNames = new ArrayList<String>(_list13.size);
-                        String _elem14;
-                        for (int _i15 = 0; _i15 < _list13.size; ++_i15) {
-                            _elem14 = iprot.readString();
-                            struct.fileNames.add(_elem14);
-                        }
-                    }
-                    struct.setFileNamesIsSet(true);
-                }
-            }
-        }
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof sortTask_args)
+        return this.equals((sortTask_args)that);
+      return false;
+    }
 
+    public boolean equals(sortTask_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_jobId = true && this.isSetJobId();
+      boolean that_present_jobId = true && that.isSetJobId();
+      if (this_present_jobId || that_present_jobId) {
+        if (!(this_present_jobId && that_present_jobId))
+          return false;
+        if (!this.jobId.equals(that.jobId))
+          return false;
+      }
+
+      boolean this_present_fileNames = true && this.isSetFileNames();
+      boolean that_present_fileNames = true && that.isSetFileNames();
+      if (this_present_fileNames || that_present_fileNames) {
+        if (!(this_present_fileNames && that_present_fileNames))
+          return false;
+        if (!this.fileNames.equals(that.fileNames))
+          return false;
+      }
+
+      boolean this_present_results = true && this.isSetResults();
+      boolean that_present_results = true && that.isSetResults();
+      if (this_present_results || that_present_results) {
+        if (!(this_present_results && that_present_results))
+          return false;
+        if (!this.results.equals(that.results))
+          return false;
+      }
+
+      boolean this_present_limit = true;
+      boolean that_present_limit = true;
+      if (this_present_limit || that_present_limit) {
+        if (!(this_present_limit && that_present_limit))
+          return false;
+        if (this.limit != that.limit)
+          return false;
+      }
+
+      return true;
     }
 
-    public static class sortTask_result implements org.apache.thrift.TBase<sortTask_result, sortTask_result._Fields>, java.io.Serializable, Cloneable, Comparable<sortTask_result> {
-        // isset id assignments
-        public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-        private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sortTask_result");
-        private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short) 0);
-        private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
 
-        static {
-            schemes.put(StandardScheme.class, new sortTask_resultStandardSchemeFactory());
-            schemes.put(TupleScheme.class, new sortTask_resultTupleSchemeFactory());
-        }
+      boolean present_jobId = true && (isSetJobId());
+      list.add(present_jobId);
+      if (present_jobId)
+        list.add(jobId);
 
-        static {
-            Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-            tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT,
-                    new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-            metaDataMap = Collections.unmodifiableMap(tmpMap);
-            org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sortTask_result.class, metaDataMap);
-        }
+      boolean present_fileNames = true && (isSetFileNames());
+      list.add(present_fileNames);
+      if (present_fileNames)
+        list.add(fileNames);
 
-        public String success; // required
+      boolean present_results = true && (isSetResults());
+      list.add(present_results);
+      if (present_results)
+        list.add(results);
 
-        public sortTask_result() {
-        }
+      boolean present_limit = true;
+      list.add(present_limit);
+      if (present_limit)
+        list.add(limit);
 
-        public sortTask_result(
-                String success) {
-            this();
-            this.success = success;
-        }
+      return list.hashCode();
+    }
 
-        /**
-         * Performs a deep copy on <i>other</i>.
-         */
-        public sortTask_result(sortTask_result other) {
-            if (other.isSetSuccess()) {
-                this.success = other.success;
-            }
-        }
+    @Override
+    public int compareTo(sortTask_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetJobId()).compareTo(other.isSetJobId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJobId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobId, other.jobId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetFileNames()).compareTo(other.isSetFileNames());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileNames()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileNames, other.fileNames);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetResults()).compareTo(other.isSetResults());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResults()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.results, other.results);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLimit()).compareTo(other.isSetLimit());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLimit()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.limit, other.limit);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
 
-        public sortTask_result deepCopy() {
-            return new sortTask_result(this);
-        }
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
 
-        @Override
-        public void clear() {
-            this.success = null;
-        }
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
 
-        public String getSuccess() {
-            return this.success;
-        }
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
 
-        public sortTask_result setSuccess(String success) {
-            this.success = success;
-            return this;
-        }
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("sortTask_args(");
+      boolean first = true;
+
+      sb.append("jobId:");
+      if (this.jobId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("fileNames:");
+      if (this.fileNames == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.fileNames);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("results:");
+      if (this.results == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.results);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("limit:");
+      sb.append(this.limit);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
 
-        public void unsetSuccess() {
-            this.success = null;
-        }
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
 
-        /** Returns true if field success is set (has been assigned a value) and false otherwise */
-        public boolean isSetSuccess() {
-            return this.success != null;
-        }
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
-        public void setSuccessIsSet(boolean value) {
-            if (!value) {
-                this.success = null;
-            }
-        }
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
-        public void setFieldValue(_Fields field, Object value) {
-            switch (field) {
-                case SUCCESS:
-                    if (value == null) {
-                        unsetSuccess();
-                    } else {
-                        setSuccess((String) value);
-                    }
-                    break;
+    private static class sortTask_argsStandardSchemeFactory implements SchemeFactory {
+      public sortTask_argsStandardScheme getScheme() {
+        return new sortTask_argsStandardScheme();
+      }
+    }
 
-            }
-        }
+    private static class sortTask_argsStandardScheme extends StandardScheme<sortTask_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sortTask_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // JOB_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.jobId = iprot.readString();
+                struct.setJobIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // FILE_NAMES
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list48 = iprot.readListBegin();
+                  struct.fileNames = new ArrayList<String>(_list48.size);
+                  String _elem49;
+                  for (int _i50 = 0; _i50 < _list48.size; ++_i50)
+                  {
+                    _elem49 = iprot.readString();
+                    struct.fileNames.add(_elem49);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setFileNamesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // RESULTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list51 = iprot.readListBegin();
+                  struct.results = new ArrayList<SentimentResult>(_list51.size);
+                  SentimentResult _elem52;
+                  for (int _i53 = 0; _i53 < _list51.size; ++_i53)
+                  {
+                    _elem52 = new SentimentResult();
+                    _elem52.read(iprot);
+                    struct.results.add(_elem52);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setResultsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // LIMIT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.limit = iprot.readI32();
+                struct.setLimitIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sortTask_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.jobId != null) {
+          oprot.writeFieldBegin(JOB_ID_FIELD_DESC);
+          oprot.writeString(struct.jobId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.fileNames != null) {
+          oprot.writeFieldBegin(FILE_NAMES_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.fileNames.size()));
+            for (String _iter54 : struct.fileNames)
+            {
+              oprot.writeString(_iter54);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.results != null) {
+          oprot.writeFieldBegin(RESULTS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.results.size()));
+            for (SentimentResult _iter55 : struct.results)
+            {
+              _iter55.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(LIMIT_FIELD_DESC);
+        oprot.writeI32(struct.limit);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
 
-        public Object getFieldValue(_Fields field) {
-            switch (field) {
-                case SUCCESS:
-                    return getSuccess();
+    }
 
-            }
-            throw new IllegalStateException();
-        }
+    private static class sortTask_argsTupleSchemeFactory implements SchemeFactory {
+      public sortTask_argsTupleScheme getScheme() {
+        return new sortTask_argsTupleScheme();
+      }
+    }
 
-        /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
-        public boolean isSet(_Fields field) {
-            if (field == null) {
-                throw new IllegalArgumentException();
-            }
+    private static class sortTask_argsTupleScheme extends TupleScheme<sortTask_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, sortTask_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetJobId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetFileNames()) {
+          optionals.set(1);
+        }
+        if (struct.isSetResults()) {
+          optionals.set(2);
+        }
+        if (struct.isSetLimit()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetJobId()) {
+          oprot.writeString(struct.jobId);
+        }
+        if (struct.isSetFileNames()) {
+          {
+            oprot.writeI32(struct.fileNames.size());
+            for (String _iter56 : struct.fileNames)
+            {
+              oprot.writeString(_iter56);
+            }
+          }
+        }
+        if (struct.isSetResults()) {
+          {
+            oprot.writeI32(struct.results.size());
+            for (SentimentResult _iter57 : struct.results)
+            {
+              _iter57.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetLimit()) {
+          oprot.writeI32(struct.limit);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, sortTask_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.jobId = iprot.readString();
+          struct.setJobIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list58 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.fileNames = new ArrayList<String>(_list58.size);
+            String _elem59;
+            for (int _i60 = 0; _i60 < _list58.size; ++_i60)
+            {
+              _elem59 = iprot.readString();
+              struct.fileNames.add(_elem59);
+            }
+          }
+          struct.setFileNamesIsSet(true);
+        }
+        if (incoming.get(2)) {
+          {
+            org.apache.thrift.protocol.TList _list61 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.results = new ArrayList<SentimentResult>(_list61.size);
+            SentimentResult _elem62;
+            for (int _i63 = 0; _i63 < _list61.size; ++_i63)
+            {
+              _elem62 = new SentimentResult();
+              _elem62.read(iprot);
+              struct.results.add(_elem62);
+            }
+          }
+          struct.setResultsIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.limit = iprot.readI32();
+          struct.setLimitIsSet(true);
+        }
+      }
+    }
 
-            switch (field) {
-                case SUCCESS:
-                    return isSetSuccess();
-            }
-            throw new IllegalStateException();
-        }
+  }
 
-        @Override
-        public boolean equals(Object that) {
-            if (that == null)
-                return false;
-            if (that instanceof sortTask_result)
-                return this.equals((sortTask_result) that);
-            return false;
-        }
+  public static class sortTask_result implements org.apache.thrift.TBase<sortTask_result, sortTask_result._Fields>, java.io.Serializable, Cloneable, Comparable<sortTask_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sortTask_result");
 
-        public boolean equals(sortTask_result that) {
-            if (that == null)
-                return false;
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
-            boolean this_present_success = true && this.isSetSuccess();
-            boolean that_present_success = true && that.isSetSuccess();
-            if (this_present_success || that_present_success) {
-                if (!(this_present_success && that_present_success))
-                    return false;
-                return this.success.equals(that.success);
-            }
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new sortTask_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new sortTask_resultTupleSchemeFactory());
+    }
 
-            return true;
-        }
+    public String success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
 
-        @Override
-        public int hashCode() {
-            List<Object> list = new ArrayList<Object>();
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sortTask_result.class, metaDataMap);
+    }
 
-            boolean present_success = true && (isSetSuccess());
-            list.add(present_success);
-            if (present_success)
-                list.add(success);
+    public sortTask_result() {
+    }
 
-            return list.hashCode();
-        }
+    public sortTask_result(
+      String success)
+    {
+      this();
+      this.success = success;
+    }
 
-        @Override
-        public int compareTo(sortTask_result other) {
-            if (!getClass().equals(other.getClass())) {
-                return getClass().getName().compareTo(other.getClass().getName());
-            }
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public sortTask_result(sortTask_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+    }
 
-            int lastComparison = 0;
+    public sortTask_result deepCopy() {
+      return new sortTask_result(this);
+    }
 
-            lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-            if (lastComparison != 0) {
-                return lastComparison;
-            }
-            if (isSetSuccess()) {
-                lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-                if (lastComparison != 0) {
-                    return lastComparison;
-                }
-            }
-            return 0;
-        }
+    @Override
+    public void clear() {
+      this.success = null;
+    }
 
-        public _Fields fieldForId(int fieldId) {
-            return _Fields.findByThriftId(fieldId);
-        }
+    public String getSuccess() {
+      return this.success;
+    }
 
-        public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
-            schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
-        }
+    public sortTask_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
 
-        public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
-            schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
-        }
+    public void unsetSuccess() {
+      this.success = null;
+    }
 
-        @Override
-        public String toString() {
-            StringBuilder sb = new StringBuilder("sortTask_result(");
-            boolean first = true;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
 
-            sb.append("success:");
-            if (this.success == null) {
-                sb.append("null");
-            } else {
-                sb.append(this.success);
-            }
-            first = false;
-            sb.append(")");
-            return sb.toString();
-        }
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
 
-        public void validate() throws org.apache.thrift.TException {
-            // check for required fields
-            // check for sub-struct validity
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
         }
+        break;
 
-        private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
-            try {
-                write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
-            } catch (org.apache.thrift.TException te) {
-                throw new java.io.IOException(te);
-            }
-        }
+      }
+    }
 
-        private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
-            try {
-                read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
-            } catch (org.apache.thrift.TException te) {
-                throw new java.io.IOException(te);
-            }
-        }
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
 
-        /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
-        public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-            SUCCESS((short) 0, "success");
+      }
+      throw new IllegalStateException();
+    }
 
-            private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
 
-            static {
-                for (_Fields field : EnumSet.allOf(_Fields.class)) {
-                    byName.put(field.getFieldName(), field);
-                }
-            }
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof sortTask_result)
+        return this.equals((sortTask_result)that);
+      return false;
+    }
 
-            private final short _thriftId;
-            private final String _fieldName;
+    public boolean equals(sortTask_result that) {
+      if (that == null)
+        return false;
 
-            _Fields(short thriftId, String fieldName) {
-                _thriftId = thriftId;
-                _fieldName = fieldName;
-            }
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
 
-            /**
-             * Find the _Fields constant that matches fieldId, or null if its not found.
-             */
-            public static _Fields findByThriftId(int fieldId) {
-                switch (fieldId) {
-                    case 0: // SUCCESS
-                        return SUCCESS;
-                    default:
-                        return null;
-                }
-            }
+      return true;
+    }
 
-            /**
-             * Find the _Fields constant that matches fieldId, throwing an exception
-             * if it is not found.
-             */
-            public static _Fields findByThriftIdOrThrow(int fieldId) {
-                _Fields fields = findByThriftId(fieldId);
-                if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-                return fields;
-            }
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
 
-            /**
-             * Find the _Fields constant that matches name, or null if its not found.
-             */
-            public static _Fields findByName(String name) {
-                return byName.get(name);
-            }
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
 
-            public short getThriftFieldId() {
-                return _thriftId;
-            }
+      return list.hashCode();
+    }
 
-            public String getFieldName() {
-                return _fieldName;
-            }
-        }
+    @Override
+    public int compareTo(sortTask_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
 
-        private static class sortTask_resultStandardSchemeFactory implements SchemeFactory {
-            public sortTask_resultStandardScheme getScheme() {
-                return new sortTask_resultStandardScheme();
-            }
-        }
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
 
-        private static class sortTask_resultStandardScheme extends StandardScheme<sortTask_result> {
-
-            public void read(org.apache.thrift.protocol.TProtocol iprot, sortTask_result struct) throws org.apache.thrift.TException {
-                org.apache.thrift.protocol.TField schemeField;
-                iprot.readStructBegin();
-                while (true) {
-                    schemeField = iprot.readFieldBegin();
-                    if (schemeField.type == org.apache.thrift.protocol.TType.STOP) {
-                        break;
-                    }
-                    switch (schemeField.id) {
-                        case 0: // SUCCESS
-                            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                                struct.success = iprot.readString();
-                                struct.setSuccessIsSet(true);
-                            } else {
-                                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-                            }
-                            break;
-                        default:
-                            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-                    }
-                    iprot.readFieldEnd();
-                }
-                iprot.readStructEnd();
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
 
-                // check for required fields of primitive type, which can't be checked in the validate method
-                struct.validate();
-            }
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("sortTask_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
 
-            public void write(org.apache.thrift.protocol.TProtocol oprot, sortTask_result struct) throws org.apache.thrift.TException {
-                struct.validate();
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
 
-                oprot.writeStructBegin(STRUCT_DESC);
-                if (struct.success != null) {
-                    oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-                    oprot.writeString(struct.success);
-                    oprot.writeFieldEnd();
-                }
-                oprot.writeFieldStop();
-                oprot.writeStructEnd();
-            }
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
-        }
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
 
-        private static class sortTask_resultTupleSchemeFactory implements SchemeFactory {
-            public sortTask_resultTupleScheme getScheme() {
-                return new sortTask_resultTupleScheme();
-            }
-        }
+    private static class sortTask_resultStandardSchemeFactory implements SchemeFactory {
+      public sortTask_resultStandardScheme getScheme() {
+        return new sortTask_resultStandardScheme();
+      }
+    }
 
-        private static class sortTask_resultTupleScheme extends TupleScheme<sortTask_result> {
+    private static class sortTask_resultStandardScheme extends StandardScheme<sortTask_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sortTask_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sortTask_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
 
-            @Override
-            public void write(org.apache.thrift.protocol.TProtocol prot, sortTask_result struct) throws org.apache.thrift.TException {
-                TTupleProtocol oprot = (TTupleProtocol) prot;
-                BitSet optionals = new BitSet();
-                if (struct.isSetSuccess()) {
-                    optionals.set(0);
-                }
-                oprot.writeBitSet(optionals, 1);
-                if (struct.isSetSuccess()) {
-                    oprot.writeString(struct.success);
-                }
-            }
+    }
 
-            @Override
-            public void read(org.apache.thrift.protocol.TProtocol prot, sortTask_result struct) throws org.apache.thrift.TException {
-                TTupleProtocol iprot = (TTupleProtocol) prot;
-                BitSet incoming = iprot.readBitSet(1);
-                if (incoming.get(0)) {
-                    struct.success = iprot.readString();
-                    struct.setSuccessIsSet(true);
-                }
-            }
+    private static class sortTask_resultTupleSchemeFactory implements SchemeFactory {
+      public sortTask_resultTupleScheme getScheme() {
+        return new sortTask_resultTupleScheme();
+      }
+    }
+
+    private static class sortTask_resultTupleScheme extends TupleScheme<sortTask_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, sortTask_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
         }
+      }
 
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, sortTask_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+      }
     }
 
+  }
+
 }
@@ -0,0 +1,215 @@
+import org.apache.thrift.TException;
+import org.apache.thrift.TServiceClient;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class ConnectionPool<T extends TServiceClient> {
+    private final Integer port;
+    private final RpcSettings rpc;
+    private final Function<TProtocol, T> clientFactory;
+    private final ClientCall<T, Boolean> healthCheck;
+    private final Integer maxIdle;
+    private final Long keepAlive;
+    private final Long validateAfter;
+    // idle connections per host, most recently used first
+    private final Map<String, Deque<Connection<T>>> idle;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong failures;
+
+    /**
+     * Constructor - Keeps connections to each host open between calls so a call does not
+     * pay for connection setup. Idle connections are dropped after keepAlive ms and pinged
+     * before reuse once idle for validateAfter ms, broken connections are replaced.
+     *
+     * @param port port of the service on every host
+     * @param rpc protocol and transport to connect with
+     * @param clientFactory creates a client over a protocol, eg. ComputeService.Client::new
+     * @param healthCheck call used to check an idle connection, eg. ping
+     * @param maxIdle max idle connections kept per host
+     * @param keepAlive ms an idle connection is kept open
+     * @param validateAfter ms idle after which a connection is checked before reuse
+     */
+    ConnectionPool(Integer port, RpcSettings rpc, Function<TProtocol, T> clientFactory,
+                   ClientCall<T, Boolean> healthCheck, Integer maxIdle, Long keepAlive, Long validateAfter) {
+        this.port = port;
+        this.rpc = rpc;
+        this.clientFactory = clientFactory;
+        this.healthCheck = healthCheck;
+        this.maxIdle = maxIdle;
+        this.keepAlive = keepAlive;
+        this.validateAfter = validateAfter;
+        idle = new ConcurrentHashMap<>();
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+        failures = new AtomicLong();
+    }
+
+    /**
+     * create a pool with the pool.* and rpc.* settings of the config file.
+     *
+     * @param prop java properties for config file
+     * @param port port of the service on every host
+     * @param clientFactory creates a client over a protocol
+     * @param healthCheck call used to check an idle connection
+     * @param <T> client type
+     * @return connection pool
+     */
+    static <T extends TServiceClient> ConnectionPool<T> fromConfig(Properties prop, Integer port,
+                                                                  Function<TProtocol, T> clientFactory,
+                                                                  ClientCall<T, Boolean> healthCheck) {
+        return new ConnectionPool<>(port, RpcSettings.fromConfig(prop), clientFactory, healthCheck,
+                Integer.valueOf(prop.getProperty("pool.max.idle", "8")),
+                Long.valueOf(prop.getProperty("pool.keepalive", "60000")),
+                Long.valueOf(prop.getProperty("pool.validate.after", "5000")));
+    }
+
+    /**
+     * make a call on a pooled connection to host. if a connection taken from the idle pool
+     * turns out to be broken the call is retried once on a new one, so only use this for
+     * calls that are safe to run twice.
+     *
+     * @param host hostname
+     * @param call rpc to make
+     * @param <R> return type of the rpc
+     * @return result of the rpc
+     * @throws TException
+     */
+    <R> R call(String host, ClientCall<T, R> call) throws TException {
+        Connection<T> connection = borrow(host);
+        try {
+            R result = call.call(connection.client);
+            release(connection);
+            return result;
+        } catch (TTransportException e) {
+            invalidate(connection);
+            // a new connection was not stale, the other end may have run the call already
+            if (!connection.reused) {
+                throw e;
+            }
+            // stale connection, eg. closed by the other end, reconnect and retry once
+        } catch (TException | RuntimeException e) {
+            invalidate(connection);
+            throw e;
+        }
+        return callOnce(host, call, open(host));
+    }
+
+    /**
+     * make a call on a pooled connection to host without ever retrying it, for calls that
+     * must not run twice, eg. mapTasks or sortTask. the caller decides what to do on failure.
+     *
+     * @param host hostname
+     * @param call rpc to make
+     * @param <R> return type of the rpc
+     * @return result of the rpc
+     * @throws TException
+     */
+    <R> R callOnce(String host, ClientCall<T, R> call) throws TException {
+        return callOnce(host, call, borrow(host));
+    }
+
+    private <R> R callOnce(String host, ClientCall<T, R> call, Connection<T> connection) throws TException {
+        try {
+            R result = call.call(connection.client);
+            release(connection);
+            return result;
+        } catch (TException | RuntimeException e) {
+            invalidate(connection);
+            throw e;
+        }
+    }
+
+    /**
+     * @return hit, miss and failure counts
+     */
+    String getStats() {
+        long hit = hits.get();
+        long miss = misses.get();
+        return String.format("hits=%d, misses=%d, failures=%d, hit rate=%.1f%%", hit, miss, failures.get(),
+                hit + miss > 0 ? 100.0 * hit / (hit + miss) : 0.0);
+    }
+
+    private Connection<T> borrow(String host) throws TTransportException {
+        Deque<Connection<T>> connections = idle.computeIfAbsent(host, k -> new ConcurrentLinkedDeque<>());
+        Connection<T> connection;
+        while ((connection = connections.pollFirst()) != null) {
+            long idleTime = System.currentTimeMillis() - connection.lastUsed;
+            if (!connection.transport.isOpen() || idleTime > keepAlive) {
+                connection.transport.close();
+                continue;
+            }
+            if (idleTime > validateAfter && !isHealthy(connection)) {
+                invalidate(connection);
+                continue;
+            }
+            hits.incrementAndGet();
+            connection.reused = true;
+            return connection;
+        }
+        return open(host);
+    }
+
+    private Connection<T> open(String host) throws TTransportException {
+        misses.incrementAndGet();
+        TTransport transport = rpc.open(host, port);
+        return new Connection<>(transport, clientFactory.apply(rpc.newProtocol(transport)), host);
+    }
+
+    private boolean isHealthy(Connection<T> connection) {
+        try {
+            return healthCheck.call(connection.client);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void release(Connection<T> connection) {
+        connection.lastUsed = System.currentTimeMillis();
+        Deque<Connection<T>> connections = idle.computeIfAbsent(connection.host, k -> new ConcurrentLinkedDeque<>());
+        if (connections.size() >= maxIdle) {
+            connection.transport.close();
+            return;
+        }
+        connections.offerFirst(connection);
+    }
+
+    private void invalidate(Connection<T> connection) {
+        failures.incrementAndGet();
+        connection.transport.close();
+    }
+
+    /**
+     * An rpc made with a client
+     */
+    interface ClientCall<T, R> {
+        R call(T client) throws TException;
+    }
+
+    /**
+     * open transport and the client using it
+     */
+    private static class Connection<T> {
+        private final TTransport transport;
+        private final T client;
+        private final String host;
+        private long lastUsed;
+        // taken from the idle pool rather than just opened
+        private boolean reused;
+
+        Connection(TTransport transport, T client, String host) {
+            this.transport = transport;
+            this.client = client;
+            this.host = host;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class Job {
+    private final String jobId;
+    private final List<String> intermediateFiles;
+    private final List<SentimentResult> results;
+    // completed once every map task has returned, and once the job has its output
+    private final CompletableFuture<Void> mapTasksDone;
+    private final CompletableFuture<String> output;
+    private List<InputSplit> tasks;
+    // task ids of the map tasks whose result has been recorded
+    private BitSet completed;
+    private Integer duplicates;
+    // map tasks answered from the result cache of a compute node
+    private Integer cached;
+    // first dispatch and completion time(ms) and first node of every task, for speculation
+    private long[] dispatchedAt;
+    private long[] completedAt;
+    private String[] assignedNodes;
+    // latest dispatch time(ms) of every task still outstanding on a node, 0 while waiting to
+    // be dispatched, and how often each task timed out, for the task timeout
+    private long[] outstandingSince;
+    private int[] timeouts;
+    // node every task was last dispatched to until its result returns, for load aware scheduling
+    private String[] dispatchedTo;
+    private BitSet speculated;
+    private Phase phase;
+
+    /**
+     * Constructor - State of one sentiment analysis job, shared by the thread running the
+     * job, the return RPC calls of its map tasks and clients polling for its status.
+     *
+     * @param jobId unique job id
+     */
+    Job(String jobId) {
+        this.jobId = jobId;
+        phase = Phase.SUBMITTED;
+        tasks = Collections.emptyList();
+        completed = new BitSet();
+        duplicates = 0;
+        cached = 0;
+        dispatchedAt = new long[0];
+        completedAt = new long[0];
+        assignedNodes = new String[0];
+        outstandingSince = new long[0];
+        timeouts = new int[0];
+        dispatchedTo = new String[0];
+        speculated = new BitSet();
+        intermediateFiles = new ArrayList<>();
+        results = new ArrayList<>();
+        mapTasksDone = new CompletableFuture<>();
+        output = new CompletableFuture<>();
+    }
+
+    /**
+     * move the job to the map phase once its input has been split.
+     *
+     * @param splits map tasks of the job, the task id of each is its index
+     */
+    synchronized void startMapping(List<InputSplit> splits) {
+        tasks = new ArrayList<>(splits);
+        dispatchedAt = new long[tasks.size()];
+        completedAt = new long[tasks.size()];
+        assignedNodes = new String[tasks.size()];
+        outstandingSince = new long[tasks.size()];
+        timeouts = new int[tasks.size()];
+        dispatchedTo = new String[tasks.size()];
+        phase = Phase.MAPPING;
+        if (tasks.isEmpty()) {
+            mapTasksDone.complete(null);
+        }
+    }
+
+    /**
+     * record the results of a batch of map tasks under one lock. results of a task that
+     * already completed, eg. a re-dispatched copy, are ignored.
+     *
+     * @param taskResults map results, inline or naming an intermediate file
+     * @return number of map tasks completed so far
+     */
+    synchronized Integer addResults(List<SentimentResult> taskResults) {
+        for (SentimentResult result : taskResults) {
+            int taskId = result.getTaskId();
+            if (taskId < 0 || taskId >= tasks.size() || completed.get(taskId)) {
+                duplicates += 1;
+                continue;
+            }
+            completed.set(taskId);
+            completedAt[taskId] = System.currentTimeMillis();
+            if (result.isCached()) {
+                cached += 1;
+            }
+            if (result.getIntermediateFile() != null) {
+                intermediateFiles.add(result.getIntermediateFile());
+            } else {
+                results.add(result);
+            }
+        }
+        if (completed.cardinality() == tasks.size()) {
+            mapTasksDone.complete(null);
+        }
+        return completed.cardinality();
+    }
+
+    /**
+     * block until every map task of the job has returned its result or the timeout passes.
+     *
+     * @param timeout max ms to wait
+     * @return true if all map tasks completed
+     * @throws InterruptedException
+     */
+    boolean awaitMapTasks(long timeout) throws InterruptedException {
+        try {
+            mapTasksDone.get(timeout, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * note that a compute node accepted a map task. only the first dispatch of a task is
+     * kept for speculation, copies do not reset how long it has been running, but every
+     * dispatch restarts its task timeout.
+     *
+     * @param taskId task id
+     * @param computeNodeAddress hostname of the node
+     * @param sentAt time(ms) the task was sent, before the node could have started it
+     */
+    synchronized void markDispatched(int taskId, String computeNodeAddress, long sentAt) {
+        if (dispatchedAt[taskId] == 0) {
+            dispatchedAt[taskId] = sentAt;
+            assignedNodes[taskId] = computeNodeAddress;
+        }
+        outstandingSince[taskId] = sentAt;
+        dispatchedTo[taskId] = computeNodeAddress;
+    }
+
+    /**
+     * @param taskId task id of a returned result
+     * @return hostname of the node the task was last dispatched to, null if unknown or
+     * already taken for an earlier result of the task
+     */
+    synchronized String takeDispatchedNode(int taskId) {
+        if (taskId < 0 || taskId >= tasks.size()) {
+            return null;
+        }
+        String computeNodeAddress = dispatchedTo[taskId];
+        dispatchedTo[taskId] = null;
+        return computeNodeAddress;
+    }
+
+    /**
+     * find the map tasks that have been outstanding on a node longer than timeout since
+     * they were last dispatched. tasks still waiting to be dispatched, eg. queued for a
+     * node to fetch, never time out. the tasks found wait to be dispatched again.
+     *
+     * @param timeout ms a dispatched task may take
+     * @return timed out tasks, with their timeout counted
+     */
+    synchronized List<InputSplit> getTimedOutTasks(long timeout) {
+        List<InputSplit> timedOut = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (int taskId = completed.nextClearBit(0); taskId < tasks.size(); taskId = completed.nextClearBit(taskId + 1)) {
+            if (outstandingSince[taskId] != 0 && now - outstandingSince[taskId] > timeout) {
+                outstandingSince[taskId] = 0;
+                timeouts[taskId] += 1;
+                timedOut.add(tasks.get(taskId));
+            }
+        }
+        return timedOut;
+    }
+
+    /**
+     * @param taskId task id
+     * @return number of times the task timed out
+     */
+    synchronized int getTimeouts(int taskId) {
+        return timeouts[taskId];
+    }
+
+    /**
+     * @param taskId task id
+     * @return hostname of the node the task was first dispatched to, null if not dispatched
+     */
+    synchronized String getAssignedNode(int taskId) {
+        return assignedNodes[taskId];
+    }
+
+    /**
+     * find the map tasks worth running a speculative copy of - once at least threshold of
+     * the tasks are complete, the unfinished ones that have been running longer than the
+     * given percentile of the completed task times. every task is speculated at most once.
+     * tasks with no recorded dispatch, eg. only run as a copy, are left out of the times.
+     *
+     * @param threshold fraction of tasks that must be complete, eg. 0.75
+     * @param percentile percentile of completed task times, eg. 0.9
+     * @return straggling tasks, marked as speculated
+     */
+    synchronized List<InputSplit> getStragglers(double threshold, double percentile) {
+        List<InputSplit> stragglers = new ArrayList<>();
+        int done = completed.cardinality();
+        if (done == 0 || done == tasks.size() || done < threshold * tasks.size()) {
+            return stragglers;
+        }
+        long[] times = new long[done];
+        int timed = 0;
+        for (int taskId = completed.nextSetBit(0); taskId >= 0; taskId = completed.nextSetBit(taskId + 1)) {
+            if (dispatchedAt[taskId] != 0) {
+                times[timed++] = completedAt[taskId] - dispatchedAt[taskId];
+            }
+        }
+        if (timed == 0) {
+            return stragglers;
+        }
+        Arrays.sort(times, 0, timed);
+        long limit = times[Math.min(timed - 1, Math.max(0, (int) Math.ceil(percentile * timed) - 1))];
+        long now = System.currentTimeMillis();
+        for (int taskId = completed.nextClearBit(0); taskId < tasks.size(); taskId = completed.nextClearBit(taskId + 1)) {
+            if (dispatchedAt[taskId] != 0 && !speculated.get(taskId) && now - dispatchedAt[taskId] > limit) {
+                speculated.set(taskId);
+                stragglers.add(tasks.get(taskId));
+            }
+        }
+        return stragglers;
+    }
+
+    /**
+     * @return ms from the first map task dispatch to the last map task completion, 0 if
+     * no task has completed
+     */
+    synchronized long getMapMakespan() {
+        long first = Long.MAX_VALUE;
+        long last = 0;
+        for (int taskId = completed.nextSetBit(0); taskId >= 0; taskId = completed.nextSetBit(taskId + 1)) {
+            last = Math.max(last, completedAt[taskId]);
+        }
+        for (long dispatched : dispatchedAt) {
+            if (dispatched != 0) {
+                first = Math.min(first, dispatched);
+            }
+        }
+        return last > 0 && first <= last ? last - first : 0;
+    }
+
+    /**
+     * @param taskId task id
+     * @return true if the result of the task has been recorded
+     */
+    synchronized boolean isComplete(int taskId) {
+        return completed.get(taskId);
+    }
+
+    /**
+     * move the job to the sort phase.
+     */
+    synchronized void startSorting() {
+        phase = Phase.SORTING;
+    }
+
+    /**
+     * finish the job and wake up anyone waiting for its output.
+     *
+     * @param outputFileName output filename, null if the job failed
+     */
+    synchronized void finish(String outputFileName) {
+        phase = outputFileName != null ? Phase.COMPLETE : Phase.FAILED;
+        output.complete(outputFileName);
+    }
+
+    /**
+     * block until the job has finished.
+     *
+     * @return output filename, null if the job failed
+     * @throws InterruptedException
+     */
+    String awaitOutput() throws InterruptedException {
+        try {
+            return output.get();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * @return true once the job is complete or failed
+     */
+    boolean isFinished() {
+        return output.isDone();
+    }
+
+    /**
+     * @return thrift struct with the phase and map task progress
+     */
+    synchronized JobStatus getStatus() {
+        return new JobStatus(jobId, phase.name(), tasks.size(), completed.cardinality());
+    }
+
+    String getJobId() {
+        return jobId;
+    }
+
+    synchronized List<String> getIntermediateFiles() {
+        return new ArrayList<>(intermediateFiles);
+    }
+
+    synchronized List<SentimentResult> getResults() {
+        return new ArrayList<>(results);
+    }
+
+    synchronized Integer getMapTasksCount() {
+        return tasks.size();
+    }
+
+    synchronized Integer getDuplicates() {
+        return duplicates;
+    }
+
+    synchronized Integer getCached() {
+        return cached;
+    }
+
+    synchronized Integer getSpeculated() {
+        return speculated.cardinality();
+    }
+
+    String getOutputFileName() {
+        return output.getNow(null);
+    }
+
+    /**
+     * Job Phases
+     */
+    enum Phase {
+        SUBMITTED, MAPPING, SORTING, COMPLETE, FAILED
+    }
+}
@@ -0,0 +1,159 @@
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class Lexicon {
+    static final int POSITIVE = 1;
+    static final int NEGATIVE = 2;
+    // 'a' to 'z' and '-', the only bytes a scanned token is made of, then the polarity
+    private static final int ALPHABET = 27;
+    private static final int STRIDE = ALPHABET + 1;
+    // state 0 is dead, every transition out of it leads back to it
+    static final int DEAD = 0;
+    static final int START = STRIDE;
+    // row of every state, STRIDE ints each, transitions hold the row offset of the next state
+    private final int[] states;
+    // hash of the vocabularies, changes whenever a word is added, removed or moved
+    private final String version;
+
+    /**
+     * Constructor - Compiles both vocabularies into one minimal automaton over lowercase
+     * token bytes. a token is matched by stepping from START one byte at a time, which is
+     * one array read per byte, and reading the polarity of the state it ends in, so there
+     * is no hashing and one lookup answers both vocabularies.
+     * words that contain anything but lowercase ascii letters and '-' can never be a token
+     * and are left out.
+     *
+     * @param positives positive vocab
+     * @param negatives negative vocab
+     */
+    Lexicon(Collection<String> positives, Collection<String> negatives) {
+        // trie, node 0 is the dead state and node 1 the root
+        List<int[]> trie = new ArrayList<>();
+        trie.add(new int[STRIDE]);
+        trie.add(new int[STRIDE]);
+        for (String word : positives) {
+            insert(trie, word, POSITIVE);
+        }
+        for (String word : negatives) {
+            insert(trie, word, NEGATIVE);
+        }
+        // children are always added after their parent, so walking backwards merges every
+        // suffix before the nodes leading into it
+        int[] canonical = new int[trie.size()];
+        Map<String, Integer> register = new HashMap<>();
+        for (int node = trie.size() - 1; node > 0; node--) {
+            int[] row = trie.get(node);
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                row[symbol] = canonical[row[symbol]];
+            }
+            Integer equivalent = register.putIfAbsent(Arrays.toString(row), node);
+            canonical[node] = equivalent != null ? equivalent : node;
+        }
+        // number the remaining states in trie order, root first after the dead state
+        int[] offsets = new int[trie.size()];
+        int count = 1;
+        for (int node = 1; node < trie.size(); node++) {
+            if (canonical[node] == node) {
+                offsets[node] = STRIDE * count++;
+            }
+        }
+        states = new int[STRIDE * count];
+        for (int node = 1; node < trie.size(); node++) {
+            if (canonical[node] != node) {
+                continue;
+            }
+            int[] row = trie.get(node);
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                states[offsets[node] + symbol] = offsets[row[symbol]];
+            }
+            states[offsets[node] + ALPHABET] = row[ALPHABET];
+        }
+        version = hash(positives, negatives);
+    }
+
+    private static String hash(Collection<String> positives, Collection<String> negatives) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String word : positives) {
+                digest.update(("+" + word + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            for (String word : negatives) {
+                digest.update(("-" + word + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            StringBuilder version = new StringBuilder();
+            byte[] bytes = digest.digest();
+            for (int i = 0; i < 8; i++) {
+                version.append(String.format("%02x", bytes[i]));
+            }
+            return version.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void insert(List<int[]> trie, String word, int polarity) {
+        if (word.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c != '-' && (c < 'a' || c > 'z')) {
+                return;
+            }
+        }
+        int node = 1;
+        for (int i = 0; i < word.length(); i++) {
+            int symbol = symbol((byte) word.charAt(i));
+            if (trie.get(node)[symbol] == 0) {
+                trie.get(node)[symbol] = trie.size();
+                trie.add(new int[STRIDE]);
+            }
+            node = trie.get(node)[symbol];
+        }
+        trie.get(node)[ALPHABET] |= polarity;
+    }
+
+    private static int symbol(byte b) {
+        return b == '-' ? ALPHABET - 1 : b - 'a';
+    }
+
+    /**
+     * step the automaton by one token byte.
+     *
+     * @param state current state, START for an empty token
+     * @param b lowercase ascii letter or '-'
+     * @return next state, DEAD once the token can no longer be a vocab word
+     */
+    int next(int state, byte b) {
+        return states[state + symbol(b)];
+    }
+
+    /**
+     * @param state state a token ended in
+     * @return POSITIVE and/or NEGATIVE bits, 0 if the token is in neither vocab
+     */
+    int getPolarity(int state) {
+        return states[state + ALPHABET];
+    }
+
+    /**
+     * @return short hash identifying the vocabularies the lexicon was compiled from
+     */
+    String getVersion() {
+        return version;
+    }
+
+    /**
+     * @return number of states after minimization, including the dead state
+     */
+    int getStateCount() {
+        return states.length / STRIDE;
+    }
+}
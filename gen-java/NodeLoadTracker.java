@@ -0,0 +1,198 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class NodeLoadTracker {
+    private final List<String> computeNodes;
+    private final ConnectionPool<ComputeService.Client> computePool;
+    private final Choice choice;
+    private final Long refreshInterval;
+    // last load reported by every node, plus the tasks sent to it and returned since
+    private final Map<String, Snapshot> loads;
+
+    /**
+     * Constructor - Places map tasks using the queue depth, active tasks and latency each
+     * compute node reports through getLoad. reports are cached for refreshInterval ms and
+     * tasks sent and returned in the meantime are counted against the cached free slots, so
+     * the server never sends a node more than it has room for. a node that looks full is
+     * asked for its load again straight away.
+     *
+     * @param computeNodes hostnames of the compute nodes
+     * @param computePool connections to the compute nodes
+     * @param choice how to pick a node, every node or the better of two at random
+     * @param refreshInterval ms a load report is used before asking the node again
+     */
+    NodeLoadTracker(List<String> computeNodes, ConnectionPool<ComputeService.Client> computePool,
+                    Choice choice, Long refreshInterval) {
+        this.computeNodes = computeNodes;
+        this.computePool = computePool;
+        this.choice = choice;
+        this.refreshInterval = refreshInterval;
+        loads = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * pick the node expected to start a new task soonest, out of every node or two picked
+     * at random depending on the choice.
+     *
+     * @return hostname of the chosen node, null if the candidates have no free slots
+     */
+    String chooseNode() {
+        List<String> candidates = getCandidates();
+        String best = choose(candidates, false);
+        // cached reports may be stale, ask the candidates again before giving up
+        return best != null ? best : choose(candidates, true);
+    }
+
+    private List<String> getCandidates() {
+        List<String> candidates = computeNodes;
+        if (choice == Choice.POWER_OF_TWO && computeNodes.size() > 2) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(computeNodes.size());
+            int second = random.nextInt(computeNodes.size() - 1);
+            candidates = new ArrayList<>();
+            candidates.add(computeNodes.get(first));
+            candidates.add(computeNodes.get(second < first ? second : second + 1));
+        }
+        return candidates;
+    }
+
+    private String choose(List<String> candidates, boolean refresh) {
+        String best = null;
+        double bestWait = Double.MAX_VALUE;
+        for (String computeNodeAddress : candidates) {
+            Snapshot snapshot = getSnapshot(computeNodeAddress, refresh);
+            synchronized (snapshot) {
+                double wait = snapshot.getExpectedWait();
+                if (snapshot.getFreeSlots() > 0 && wait < bestWait) {
+                    best = computeNodeAddress;
+                    bestWait = wait;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * claim up to maxTasks of the free slots of a node for a batch about to be sent to it.
+     * if the cached report shows no free slots the node is asked for its load again.
+     *
+     * @param computeNodeAddress hostname of the node
+     * @param maxTasks tasks waiting to be sent
+     * @return number of tasks to send, 0 if the node is full
+     */
+    int reserve(String computeNodeAddress, int maxTasks) {
+        int slots = reserve(getSnapshot(computeNodeAddress, false), maxTasks);
+        return slots > 0 ? slots : reserve(getSnapshot(computeNodeAddress, true), maxTasks);
+    }
+
+    private int reserve(Snapshot snapshot, int maxTasks) {
+        synchronized (snapshot) {
+            int slots = Math.max(0, Math.min(maxTasks, snapshot.getFreeSlots()));
+            snapshot.sent += slots;
+            return slots;
+        }
+    }
+
+    /**
+     * @param computeNodeAddress hostname of the node
+     * @return false if the node could not be asked for its load last time
+     */
+    boolean isReachable(String computeNodeAddress) {
+        return getSnapshot(computeNodeAddress, false).load != null;
+    }
+
+    /**
+     * free the slot of a task that returned its result, until the node next reports its load.
+     *
+     * @param computeNodeAddress hostname of the node the task was sent to
+     */
+    void complete(String computeNodeAddress) {
+        Snapshot snapshot = loads.get(computeNodeAddress);
+        if (snapshot == null) {
+            return;
+        }
+        synchronized (snapshot) {
+            // below 0 once tasks counted in the report have finished
+            snapshot.sent -= 1;
+        }
+    }
+
+    /**
+     * give back slots reserved for tasks the node did not accept, eg. the call failed.
+     *
+     * @param computeNodeAddress hostname of the node
+     * @param tasks tasks not accepted
+     */
+    void release(String computeNodeAddress, int tasks) {
+        Snapshot snapshot = getSnapshot(computeNodeAddress, false);
+        synchronized (snapshot) {
+            snapshot.sent -= tasks;
+        }
+    }
+
+    /**
+     * @param computeNodeAddress hostname of the node
+     * @param refresh ask the node for its load even if the cached report is recent
+     * @return cached load of the node, asked for again once older than refreshInterval
+     */
+    private Snapshot getSnapshot(String computeNodeAddress, boolean refresh) {
+        Snapshot snapshot = loads.get(computeNodeAddress);
+        if (!refresh && snapshot != null && System.currentTimeMillis() - snapshot.fetchedAt < refreshInterval) {
+            return snapshot;
+        }
+        NodeLoad load = null;
+        try {
+            load = computePool.call(computeNodeAddress, ComputeService.Client::getLoad);
+        } catch (Exception e) {
+            // unreachable node, no free slots until the next refresh
+            System.out.printf("Could not get the load of %s: %s\n", computeNodeAddress, e);
+        }
+        snapshot = new Snapshot(load);
+        loads.put(computeNodeAddress, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * How the node for the next batch is picked
+     */
+    enum Choice {
+        LEAST_LOADED, POWER_OF_TWO
+    }
+
+    /**
+     * load report of one node
+     */
+    private static class Snapshot {
+        private final NodeLoad load;
+        private final long fetchedAt;
+        // tasks sent since the report less those returned
+        private int sent;
+
+        Snapshot(NodeLoad load) {
+            this.load = load;
+            fetchedAt = System.currentTimeMillis();
+        }
+
+        int getFreeSlots() {
+            if (load == null) {
+                return 0;
+            }
+            int capacity = load.getWorkerThreads() + load.getQueueSize();
+            return Math.min(capacity, capacity - load.getQueueDepth() - load.getActiveTasks() - sent);
+        }
+
+        /**
+         * ms until a new task would start, the tasks ahead of it spread over the workers
+         */
+        double getExpectedWait() {
+            if (load == null) {
+                return Double.MAX_VALUE;
+            }
+            int ahead = Math.max(0, load.getQueueDepth() + load.getActiveTasks() + sent);
+            return (ahead + 1) * Math.max(1.0, load.getAvgLatency()) / Math.max(1, load.getWorkerThreads());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class ResultBatcher {
+    private final ConnectionPool<SentimentAnalyzerService.Client> serverPool;
+    private final String serverAddress;
+    private final Integer batchSize;
+    private final Long linger;
+    private final ScheduledExecutorService timer;
+    // results waiting to be sent, per job
+    private Map<String, List<SentimentResult>> pending;
+    private int pendingCount;
+    // bumped on every flush so a linger timer does not flush a newer batch early
+    private long generation;
+
+    /**
+     * Constructor - Coalesces map task results into one return RPC per job, sent once
+     * batchSize results are waiting or the oldest has waited linger ms.
+     *
+     * @param serverPool connections to the server
+     * @param serverAddress server hostname
+     * @param batchSize results per return RPC
+     * @param linger max ms a result waits for its batch to fill
+     */
+    ResultBatcher(ConnectionPool<SentimentAnalyzerService.Client> serverPool, String serverAddress,
+                  Integer batchSize, Long linger) {
+        this.serverPool = serverPool;
+        this.serverAddress = serverAddress;
+        this.batchSize = batchSize;
+        this.linger = linger;
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "result-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pending = new HashMap<>();
+    }
+
+    /**
+     * queue the result of one map task.
+     *
+     * @param jobId job the map task belongs to
+     * @param result map result
+     */
+    void add(String jobId, SentimentResult result) {
+        Map<String, List<SentimentResult>> ready = null;
+        synchronized (this) {
+            pending.computeIfAbsent(jobId, k -> new ArrayList<>()).add(result);
+            pendingCount++;
+            if (pendingCount >= batchSize) {
+                ready = drain();
+            } else if (pendingCount == 1) {
+                long scheduled = generation;
+                timer.schedule(() -> flush(scheduled), linger, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (ready != null) {
+            send(ready);
+        }
+    }
+
+    private void flush(long scheduled) {
+        Map<String, List<SentimentResult>> ready;
+        synchronized (this) {
+            if (scheduled != generation || pendingCount == 0) {
+                return;
+            }
+            ready = drain();
+        }
+        send(ready);
+    }
+
+    private Map<String, List<SentimentResult>> drain() {
+        Map<String, List<SentimentResult>> ready = pending;
+        pending = new HashMap<>();
+        pendingCount = 0;
+        generation++;
+        return ready;
+    }
+
+    private void send(Map<String, List<SentimentResult>> ready) {
+        for (Map.Entry<String, List<SentimentResult>> batch : ready.entrySet()) {
+            try {
+                serverPool.call(serverAddress, client -> {
+                    client.returnSentimentResults(batch.getKey(), batch.getValue());
+                    return null;
+                });
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ResultCache {
+    private static final int MAGIC = 0x53524331;
+    // bump when the scanner counts words differently, older cache files are then discarded
+    private static final int FORMAT = 1;
+    private static final int HASH_WINDOW = 8 << 20;
+    // key, three counts and map overhead
+    private static final int ENTRY_OVERHEAD = 24 + 64;
+    private final Path cacheFile;
+    private final String lexiconVersion;
+    private final Integer maxEntries;
+    private final Long maxBytes;
+    // least recently used first
+    private final LinkedHashMap<String, SentimentCounts> entries;
+    private DataOutputStream log;
+    private long bytes;
+    private int appended;
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructor - Counts of input ranges already scanned, keyed by a hash of their
+     * content and the lexicon version, so unchanged input is not scanned again and a
+     * changed vocabulary never returns stale counts. the least recently used entries are
+     * evicted beyond maxEntries or maxBytes. every new entry is appended to the cache
+     * file, which is read back on start and rewritten once it holds too many stale entries.
+     *
+     * @param cacheFile cache file, created if missing
+     * @param lexiconVersion version of the vocabulary the counts were made with
+     * @param maxEntries max entries kept
+     * @param maxBytes max estimated size of the entries kept in bytes
+     * @throws IOException
+     */
+    ResultCache(Path cacheFile, String lexiconVersion, Integer maxEntries, Long maxBytes) throws IOException {
+        this.cacheFile = cacheFile;
+        this.lexiconVersion = lexiconVersion;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+        load();
+        compact();
+    }
+
+    /**
+     * hash the content of a word aligned range of an input file.
+     *
+     * @param channel input file
+     * @param start first byte
+     * @param end end of the range
+     * @return cache key of the range
+     * @throws IOException
+     */
+    String getKey(FileChannel channel, long start, long end) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        for (long position = start; position < end; position += HASH_WINDOW) {
+            digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(HASH_WINDOW, end - position)));
+        }
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(String.format("%02x", b));
+        }
+        return key.append('@').append(lexiconVersion).toString();
+    }
+
+    /**
+     * @param key cache key
+     * @return cached counts, null on a miss
+     */
+    synchronized SentimentCounts get(String key) {
+        SentimentCounts counts = entries.get(key);
+        if (counts != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return counts;
+    }
+
+    /**
+     * store the counts of a range and append them to the cache file.
+     *
+     * @param key cache key
+     * @param counts counts of the range
+     */
+    synchronized void put(String key, SentimentCounts counts) {
+        if (!add(key, counts)) {
+            return;
+        }
+        try {
+            write(log, key, counts);
+            log.flush();
+            if (++appended > maxEntries) {
+                compact();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * @return hits, misses, hit rate and size of the cache
+     */
+    synchronized String getStats() {
+        return String.format("hits=%d, misses=%d, hit rate=%.1f%%, entries=%d", hits, misses,
+                hits + misses > 0 ? 100.0 * hits / (hits + misses) : 0.0, entries.size());
+    }
+
+    private boolean add(String key, SentimentCounts counts) {
+        if (entries.put(key, counts) != null) {
+            return false;
+        }
+        bytes += key.length() + ENTRY_OVERHEAD;
+        Iterator<Map.Entry<String, SentimentCounts>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries || bytes > maxBytes) {
+            bytes -= eldest.next().getKey().length() + ENTRY_OVERHEAD;
+            eldest.remove();
+        }
+        return true;
+    }
+
+    /**
+     * read the entries of the cache file in the order they were added, a record cut short
+     * by a crash ends the file.
+     */
+    private void load() throws IOException {
+        if (!Files.exists(cacheFile)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) {
+                System.out.printf("Result Cache: discarding %s, unknown format\n", cacheFile);
+                return;
+            }
+            while (true) {
+                String key = in.readUTF();
+                SentimentCounts counts = new SentimentCounts(in.readLong(), in.readLong(), in.readLong());
+                // a key added again after being evicted, keep the latest
+                if (entries.remove(key) != null) {
+                    bytes -= key.length() + ENTRY_OVERHEAD;
+                }
+                add(key, counts);
+            }
+        } catch (EOFException e) {
+            // end of the cache file
+        }
+        System.out.printf("Result Cache: loaded %d entries from %s\n", entries.size(), cacheFile);
+    }
+
+    /**
+     * rewrite the cache file with only the entries kept, least recently used first, and
+     * keep appending to it.
+     */
+    private void compact() throws IOException {
+        if (log != null) {
+            log.close();
+        }
+        Path tempFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            for (Map.Entry<String, SentimentCounts> entry : entries.entrySet()) {
+                write(out, entry.getKey(), entry.getValue());
+            }
+        }
+        Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(cacheFile,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)));
+        appended = 0;
+    }
+
+    private static void write(DataOutputStream out, String key, SentimentCounts counts) throws IOException {
+        out.writeUTF(key);
+        out.writeLong(counts.getNumPos());
+        out.writeLong(counts.getNumNeg());
+        out.writeLong(counts.getNumTokens());
+    }
+}
@@ -0,0 +1,225 @@
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.server.THsHaServer;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.thrift.transport.TTransportFactory;
+import org.apache.thrift.transport.TZlibTransport;
+
+import java.util.Properties;
+
+public class RpcSettings {
+    private final Protocol protocol;
+    private final Transport transport;
+    private final Boolean compression;
+    private final Integer compressionLevel;
+    private final Integer maxFrameSize;
+    private final ServerType serverType;
+    private final Integer selectorThreads;
+    private final Integer workerThreads;
+    private final Integer backlog;
+    private final Boolean virtualThreads;
+
+    /**
+     * Constructor - Protocol and transport stack used by every client and server, so both
+     * ends of each connection agree. the socket is wrapped in zlib compression if enabled,
+     * then in frames if FRAMED. also the kind of server accepting those connections.
+     *
+     * @param protocol BINARY or COMPACT
+     * @param transport plain SOCKET or FRAMED
+     * @param compression compress everything sent with zlib
+     * @param compressionLevel zlib level, 1 fastest to 9 smallest
+     * @param maxFrameSize largest frame accepted in bytes, if FRAMED. a call or reply that
+     *                     does not fit, eg. submitJob with a very long file list, fails
+     * @param serverType thread per connection or one of the selector based servers
+     * @param selectorThreads threads selecting on the connections, if THREADED_SELECTOR
+     * @param workerThreads threads running the calls, if selector based
+     * @param backlog connections waiting to be accepted before new ones are refused, 0 for the default
+     * @param virtualThreads run the calls on virtual threads instead
+     */
+    RpcSettings(Protocol protocol, Transport transport, Boolean compression, Integer compressionLevel,
+                Integer maxFrameSize, ServerType serverType, Integer selectorThreads, Integer workerThreads,
+                Integer backlog, Boolean virtualThreads) {
+        this.protocol = protocol;
+        this.transport = transport;
+        this.compression = compression;
+        this.compressionLevel = compressionLevel;
+        this.maxFrameSize = maxFrameSize;
+        this.serverType = serverType;
+        this.selectorThreads = selectorThreads;
+        this.workerThreads = workerThreads;
+        this.backlog = backlog;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * read the rpc.* settings of the config file.
+     *
+     * @param prop java properties for config file
+     * @return rpc settings
+     */
+    static RpcSettings fromConfig(Properties prop) {
+        return new RpcSettings(Protocol.valueOf(prop.getProperty("rpc.protocol", "BINARY")),
+                Transport.valueOf(prop.getProperty("rpc.transport", "SOCKET")),
+                Boolean.valueOf(prop.getProperty("rpc.compression", "false")),
+                Integer.valueOf(prop.getProperty("rpc.compression.level", "1")),
+                Integer.valueOf(prop.getProperty("rpc.frame.max", "268435456")),
+                ServerType.valueOf(prop.getProperty("rpc.server", "THREAD_POOL")),
+                Integer.valueOf(prop.getProperty("rpc.server.selectors", "2")),
+                Integer.valueOf(prop.getProperty("rpc.server.workers", "16")),
+                Integer.valueOf(prop.getProperty("rpc.server.backlog", "0")),
+                VirtualThreads.isEnabled(prop.getProperty("threads.virtual", "false")));
+    }
+
+    /**
+     * create the server for a service. the selector based servers read whole frames off the
+     * socket themselves, so they need the FRAMED transport without compression.
+     *
+     * @param processor processor of the service
+     * @param port port to listen on
+     * @return server, not started yet
+     * @throws TTransportException
+     */
+    TServer newServer(TProcessor processor, Integer port) throws TTransportException {
+        if (serverType != ServerType.THREAD_POOL && (transport != Transport.FRAMED || compression)) {
+            throw new IllegalArgumentException(serverType + " server needs rpc.transport = FRAMED and no compression");
+        }
+        switch (serverType) {
+            case HSHA: {
+                THsHaServer.Args args = new THsHaServer.Args(newNonblockingSocket(port));
+                args.processor(processor);
+                args.protocolFactory(getProtocolFactory());
+                args.minWorkerThreads(workerThreads).maxWorkerThreads(workerThreads);
+                if (virtualThreads) {
+                    args.executorService(VirtualThreads.newExecutor());
+                }
+                return new THsHaServer(args);
+            }
+            case THREADED_SELECTOR: {
+                TThreadedSelectorServer.Args args = new TThreadedSelectorServer.Args(newNonblockingSocket(port));
+                args.processor(processor);
+                args.protocolFactory(getProtocolFactory());
+                args.selectorThreads(selectorThreads).workerThreads(workerThreads);
+                if (virtualThreads) {
+                    args.executorService(VirtualThreads.newExecutor());
+                }
+                return new TThreadedSelectorServer(args);
+            }
+            default: {
+                TThreadPoolServer.Args args = new TThreadPoolServer.Args(
+                        new TServerSocket(new TServerSocket.ServerSocketTransportArgs().port(port).backlog(backlog)));
+                args.processor(processor);
+                args.protocolFactory(getProtocolFactory());
+                args.transportFactory(getTransportFactory());
+                if (virtualThreads) {
+                    // one virtual thread per connection instead of a platform thread
+                    args.executorService(VirtualThreads.newExecutor());
+                }
+                return new TThreadPoolServer(args);
+            }
+        }
+    }
+
+    /**
+     * open a client connection.
+     *
+     * @param host hostname
+     * @param port port of the service
+     * @return open transport
+     * @throws TTransportException
+     */
+    TTransport open(String host, Integer port) throws TTransportException {
+        TTransport clientTransport = wrap(new TSocket(host, port));
+        clientTransport.open();
+        return clientTransport;
+    }
+
+    /**
+     * @param clientTransport transport returned by open
+     * @return protocol to create a client over
+     */
+    TProtocol newProtocol(TTransport clientTransport) {
+        return getProtocolFactory().getProtocol(clientTransport);
+    }
+
+    /**
+     * @return protocol factory for a server
+     */
+    TProtocolFactory getProtocolFactory() {
+        return protocol == Protocol.COMPACT ? new TCompactProtocol.Factory() : new TBinaryProtocol.Factory();
+    }
+
+    /**
+     * @return transport factory for a server, wrapping every accepted socket like open does
+     */
+    TTransportFactory getTransportFactory() {
+        return new TTransportFactory() {
+            @Override
+            public TTransport getTransport(TTransport base) {
+                return wrap(base);
+            }
+        };
+    }
+
+    private TNonblockingServerSocket newNonblockingSocket(Integer port) throws TTransportException {
+        return new TNonblockingServerSocket(new TNonblockingServerSocket.NonblockingAbstractServerSocketArgs()
+                .port(port).backlog(backlog));
+    }
+
+    /**
+     * @return true if the transport is FRAMED
+     */
+    boolean isFramed() {
+        return transport == Transport.FRAMED;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s server, %s protocol, %s transport%s", serverType, protocol, transport,
+                compression ? ", zlib level " + compressionLevel : "");
+    }
+
+    private TTransport wrap(TTransport base) {
+        TTransport wrapped = base;
+        if (compression) {
+            wrapped = new TZlibTransport(wrapped, compressionLevel);
+        }
+        if (transport == Transport.FRAMED) {
+            wrapped = new TFramedTransport(wrapped, maxFrameSize);
+        }
+        return wrapped;
+    }
+
+    /**
+     * Thrift Protocols - BINARY, or COMPACT for smaller messages
+     */
+    enum Protocol {
+        BINARY, COMPACT
+    }
+
+    /**
+     * Thrift Servers - a thread per connection, HSHA with one selector thread handing calls
+     * to a worker pool, or THREADED_SELECTOR with several selector threads
+     */
+    enum ServerType {
+        THREAD_POOL, HSHA, THREADED_SELECTOR
+    }
+
+    /**
+     * Thrift Transports - messages written straight to the SOCKET, or FRAMED with a length
+     * prefix so each is sent with one write
+     */
+    enum Transport {
+        SOCKET, FRAMED
+    }
+}
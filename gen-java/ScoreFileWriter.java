@@ -0,0 +1,158 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class ScoreFileWriter implements ScoreSorter.RecordWriter, Closeable {
+    private static final int BUFFER_SIZE = 1 << 20;
+    private final FileChannel channel;
+    private final boolean fsync;
+    private ByteBuffer buffer;
+    private long records;
+    private long bytes;
+    private long nanos;
+
+    /**
+     * Constructor - Writes "fileName, score" records to the output file through one open
+     * channel and a large buffer instead of reopening the file for every record.
+     *
+     * @param outputFile output file, created if missing
+     * @param fsync force the file to disk on close
+     * @throws IOException
+     */
+    ScoreFileWriter(Path outputFile, boolean fsync) throws IOException {
+        channel = FileChannel.open(outputFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        this.fsync = fsync;
+        buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    /**
+     * append one record, same text as formatting it with "%s, %f\n".
+     *
+     * @param fileName input filename
+     * @param score sentiment score
+     * @throws IOException
+     */
+    @Override
+    public void write(String fileName, float score) throws IOException {
+        long start = System.nanoTime();
+        byte[] name = fileName.getBytes();
+        // name, ", ", sign, 1 to 39 integer digits, '.', 6 decimals and '\n'
+        ensureCapacity(name.length + 50);
+        buffer.put(name);
+        buffer.put((byte) ',');
+        buffer.put((byte) ' ');
+        putScore(score);
+        buffer.put((byte) '\n');
+        records++;
+        nanos += System.nanoTime() - start;
+    }
+
+    /**
+     * flush the buffer, force the file to disk if asked to and close it.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        long start = System.nanoTime();
+        try {
+            flush();
+            if (fsync) {
+                channel.force(true);
+            }
+        } finally {
+            channel.close();
+            nanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * @return number of records written
+     */
+    long getRecords() {
+        return records;
+    }
+
+    /**
+     * @return number of bytes written
+     */
+    long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return write throughput in MB/s over the time spent formatting and writing records
+     */
+    double getThroughput() {
+        return nanos > 0 ? bytes / 1e6 / (nanos / 1e9) : 0;
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (buffer.remaining() >= length) {
+            return;
+        }
+        flush();
+        if (buffer.capacity() < length) {
+            buffer = ByteBuffer.allocate(length);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytes += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * "%f" rounds the shortest decimal form of the score half up to 6 places. scaling by 1e6
+     * and rounding gives the same digits unless the scaled value is within rounding error of
+     * a tie, those rare cases and very large or non finite scores go through BigDecimal and String.format.
+     */
+    private void putScore(float score) {
+        double value = score;
+        if (Double.isNaN(value) || Double.isInfinite(value) || Math.abs(value) >= 1e6) {
+            buffer.put(String.format("%f", score).getBytes());
+            return;
+        }
+        boolean negative = value < 0 || (value == 0 && 1 / value < 0);
+        double scaled = Math.abs(value) * 1e6;
+        double fraction = scaled - Math.floor(scaled);
+        long units;
+        if (Math.abs(fraction - 0.5) < 1e-6) {
+            units = new BigDecimal(Double.toString(Math.abs(value))).setScale(6, RoundingMode.HALF_UP)
+                    .unscaledValue().longValue();
+        } else {
+            units = Math.round(scaled);
+        }
+        if (negative) {
+            buffer.put((byte) '-');
+        }
+        putDigits(units / 1000000, 1);
+        buffer.put((byte) '.');
+        putDigits(units % 1000000, 6);
+    }
+
+    private void putDigits(long value, int width) {
+        int length = 1;
+        for (long v = value / 10; v > 0; v /= 10) {
+            length++;
+        }
+        for (int i = length; i < width; i++) {
+            buffer.put((byte) '0');
+        }
+        int end = buffer.position() + length;
+        for (int i = end - 1; i >= end - length; i--) {
+            buffer.put(i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        buffer.position(end);
+    }
+}
@@ -0,0 +1,143 @@
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+public class ScoreSorter {
+    private final Path spillDir;
+    private final int memoryRecords;
+    private final List<Map.Entry<String, Float>> buffer;
+    private final List<Path> runs;
+
+    /**
+     * Constructor - Sorts file scores in descending order. up to memoryRecords scores are
+     * sorted in memory, past that sorted runs are spilled to disk and merged at the end.
+     *
+     * @param spillDir directory for the sorted runs
+     * @param memoryRecords number of scores held in memory before spilling
+     */
+    ScoreSorter(Path spillDir, int memoryRecords) {
+        this.spillDir = spillDir;
+        this.memoryRecords = Math.max(1, memoryRecords);
+        buffer = new ArrayList<>();
+        runs = new ArrayList<>();
+    }
+
+    /**
+     * add the score of one file.
+     *
+     * @param fileName input filename
+     * @param score sentiment score
+     * @throws IOException
+     */
+    void add(String fileName, float score) throws IOException {
+        buffer.add(new AbstractMap.SimpleImmutableEntry<>(fileName, score));
+        if (buffer.size() >= memoryRecords) {
+            spill();
+        }
+    }
+
+    /**
+     * hand every score to the writer in descending order, merging the spilled runs if any.
+     * the runs are deleted afterwards.
+     *
+     * @param writer output
+     * @throws IOException
+     */
+    void writeSorted(RecordWriter writer) throws IOException {
+        if (runs.isEmpty()) {
+            buffer.sort(Map.Entry.comparingByValue(Comparator.reverseOrder()));
+            for (Map.Entry<String, Float> entry : buffer) {
+                writer.write(entry.getKey(), entry.getValue());
+            }
+            buffer.clear();
+            return;
+        }
+        if (!buffer.isEmpty()) {
+            spill();
+        }
+        System.out.printf("Merging %d sorted runs.\n", runs.size());
+        PriorityQueue<Run> heads = new PriorityQueue<>(Comparator.comparing((Run run) -> run.score).reversed());
+        try {
+            for (Path path : runs) {
+                Run run = new Run(path);
+                if (run.next()) {
+                    heads.add(run);
+                } else {
+                    run.close();
+                }
+            }
+            while (!heads.isEmpty()) {
+                Run run = heads.poll();
+                writer.write(run.fileName, run.score);
+                if (run.next()) {
+                    heads.add(run);
+                } else {
+                    run.close();
+                }
+            }
+        } finally {
+            for (Run run : heads) {
+                run.close();
+            }
+            for (Path path : runs) {
+                Files.deleteIfExists(path);
+            }
+            runs.clear();
+        }
+    }
+
+    /**
+     * sort the buffered scores and write them out as one run.
+     */
+    private void spill() throws IOException {
+        buffer.sort(Map.Entry.comparingByValue(Comparator.reverseOrder()));
+        Path path = Files.createTempFile(spillDir, "sort_", ".run");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(buffer.size());
+            for (Map.Entry<String, Float> entry : buffer) {
+                out.writeUTF(entry.getKey());
+                out.writeFloat(entry.getValue());
+            }
+        }
+        runs.add(path);
+        buffer.clear();
+    }
+
+    /**
+     * Receives the sorted scores
+     */
+    interface RecordWriter {
+        void write(String fileName, float score) throws IOException;
+    }
+
+    /**
+     * read cursor over one spilled run
+     */
+    private static class Run implements Closeable {
+        private final DataInputStream in;
+        private int remaining;
+        private String fileName;
+        private float score;
+
+        Run(Path path) throws IOException {
+            in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+            remaining = in.readInt();
+        }
+
+        boolean next() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            fileName = in.readUTF();
+            score = in.readFloat();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
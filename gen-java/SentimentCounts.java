@@ -0,0 +1,98 @@
+public class SentimentCounts {
+    private long numPos;
+    private long numNeg;
+    private long numTokens;
+
+    /**
+     * Constructor - Raw map output for an input split or a whole file. Counts from
+     * splits, retries or incremental runs are combined with add() and the score
+     * is only computed once everything has been added up.
+     *
+     * @param numPos positive words
+     * @param numNeg negative words
+     * @param numTokens all words
+     */
+    SentimentCounts(long numPos, long numNeg, long numTokens) {
+        this.numPos = numPos;
+        this.numNeg = numNeg;
+        this.numTokens = numTokens;
+    }
+
+    SentimentCounts() {
+        this(0, 0, 0);
+    }
+
+    /**
+     * parse an intermediate record "fileName, numPos, numNeg, numTokens".
+     *
+     * @param record intermediate record split on ", "
+     * @return counts in the record
+     */
+    static SentimentCounts fromRecord(String[] record) {
+        return new SentimentCounts(Long.parseLong(record[1]), Long.parseLong(record[2]),
+                Long.parseLong(record[3]));
+    }
+
+    /**
+     * @param result counts returned inline by a map task
+     * @return counts in the result
+     */
+    static SentimentCounts fromResult(SentimentResult result) {
+        return new SentimentCounts(result.getNumPos(), result.getNumNeg(), result.getNumTokens());
+    }
+
+    /**
+     * @param fileName input filename the counts belong to
+     * @param taskId id of the map task that counted them
+     * @return thrift struct to return the counts inline
+     */
+    SentimentResult toResult(String fileName, int taskId) {
+        return new SentimentResult(fileName, numPos, numNeg, numTokens, taskId, null, false);
+    }
+
+    /**
+     * @param fileName input filename the counts belong to
+     * @return intermediate record "fileName, numPos, numNeg, numTokens"
+     */
+    String toRecord(String fileName) {
+        return String.format("%s, %d, %d, %d", fileName, numPos, numNeg, numTokens);
+    }
+
+    /**
+     * merge another partial result into this one.
+     *
+     * @param other counts to add
+     * @return this
+     */
+    SentimentCounts add(SentimentCounts other) {
+        numPos += other.numPos;
+        numNeg += other.numNeg;
+        numTokens += other.numTokens;
+        return this;
+    }
+
+    /**
+     * sentiment score using the formula = (p-n)/(p+n). an input without any
+     * sentiment words is neutral rather than NaN.
+     *
+     * @return sentiment score
+     */
+    float getScore() {
+        if (numPos + numNeg == 0) {
+            return 0.0f;
+        }
+        return (numPos - numNeg) / (float) (numPos + numNeg);
+    }
+
+    long getNumPos() {
+        return numPos;
+    }
+
+    long getNumNeg() {
+        return numNeg;
+    }
+
+    long getNumTokens() {
+        return numTokens;
+    }
+}
@@ -1,31 +1,99 @@
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TBinaryProtocol;
-import org.apache.thrift.transport.TSocket;
-import org.apache.thrift.transport.TTransport;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class SentimentHandler implements SentimentAnalyzerService.Iface {
     private List<String> computeNodes;
-    private List<String> intermediateFiles;
-    private Integer mapTasksCount;
-    private Integer mapTasksComplete;
+    // state of every job in flight, jobs share the compute nodes
+    private Map<String, Job> jobs;
+    // runs the jobs, one thread each from submit until the sort task returns, and their dispatch lanes
+    private ExecutorService coordinators;
+    // forgets finished jobs whose result was never fetched after jobTtl ms
+    private ScheduledExecutorService expiry;
+    private Long jobTtl;
     private Properties prop;
     private Integer computeNodePort;
+    private Long splitSize;
+    private Integer sortLimit;
+    private Integer batchSize;
+    private Integer retryBackoff;
+    private Boolean parallelDispatch;
+    private Integer inFlight;
+    private Integer maxFailures;
+    private DispatchOrder dispatchOrder;
+    private Boolean binPacking;
+    private Long taskTimeout;
+    private Integer maxRedispatch;
+    private Boolean speculation;
+    private Double speculationThreshold;
+    private Double speculationPercentile;
+    private Long speculationInterval;
+    private ConnectionPool<ComputeService.Client> computePool;
+    private ComputeHandler.Scheduler scheduler;
+    private NodeLoadTracker loadTracker;
+    // map tasks of every job waiting for a compute node to fetch them, if pulling
+    private BlockingDeque<MapTask> taskQueue;
+    private Long pullWait;
 
     /**
-     * Constructor - Get the list of compute nodes available and port
+     * Constructor - Get the list of compute nodes available, port, input split size, sort limit,
+     * scheduler, dispatch, task timeout, speculation and job expiry settings
      * @param properties java properties for config file
      */
     SentimentHandler(Properties properties) {
         prop = properties;
+        jobs = new ConcurrentHashMap<>();
+        if (VirtualThreads.isEnabled(prop.getProperty("threads.virtual", "false"))) {
+            coordinators = VirtualThreads.newExecutor();
+        } else {
+            coordinators = Executors.newCachedThreadPool();
+        }
+        expiry = Executors.newSingleThreadScheduledExecutor();
+        jobTtl = Long.valueOf(prop.getProperty("job.ttl", "600000"));
         computeNodePort = Integer.valueOf(prop.getProperty("computenode.port"));
+        splitSize = Long.valueOf(prop.getProperty("input.split.size", "0"));
+        sortLimit = Integer.valueOf(prop.getProperty("sort.limit", "0"));
+        batchSize = Math.max(1, Integer.valueOf(prop.getProperty("dispatch.batch.size", "64")));
+        retryBackoff = Integer.valueOf(prop.getProperty("dispatch.retry.backoff", "10"));
+        parallelDispatch = Boolean.valueOf(prop.getProperty("dispatch.parallel", "false"));
+        inFlight = Math.max(1, Integer.valueOf(prop.getProperty("dispatch.inflight", "2")));
+        maxFailures = Math.max(1, Integer.valueOf(prop.getProperty("dispatch.max.failures", "5")));
+        dispatchOrder = DispatchOrder.valueOf(prop.getProperty("dispatch.order", "INPUT"));
+        binPacking = Boolean.valueOf(prop.getProperty("dispatch.binpack", "false"));
+        taskTimeout = Long.valueOf(prop.getProperty("task.timeout", "60000"));
+        maxRedispatch = Integer.valueOf(prop.getProperty("task.max.redispatch", "3"));
+        speculation = Boolean.valueOf(prop.getProperty("speculation.enabled", "false"));
+        speculationThreshold = Double.valueOf(prop.getProperty("speculation.threshold", "0.75"));
+        speculationPercentile = Double.valueOf(prop.getProperty("speculation.percentile", "0.9"));
+        speculationInterval = Long.valueOf(prop.getProperty("speculation.interval", "200"));
         computeNodes = Arrays.asList(prop.getProperty("mapnode.address").split("\\s*,\\s*"));
+        computePool = ConnectionPool.fromConfig(prop, computeNodePort, ComputeService.Client::new,
+                ComputeService.Client::ping);
+        scheduler = ComputeHandler.Scheduler.valueOf(prop.getProperty("scheduler.policy"));
+        if (scheduler == ComputeHandler.Scheduler.LOAD_AWARE) {
+            loadTracker = new NodeLoadTracker(computeNodes, computePool,
+                    NodeLoadTracker.Choice.valueOf(prop.getProperty("scheduler.choice", "LEAST_LOADED")),
+                    Long.valueOf(prop.getProperty("scheduler.load.refresh", "100")));
+        }
+        taskQueue = new LinkedBlockingDeque<>();
+        pullWait = Long.valueOf(prop.getProperty("pull.wait", "500"));
         System.out.printf("Compute Nodes: %s\n", computeNodes);
     }
 
@@ -41,38 +109,151 @@ public class SentimentHandler implements SentimentAnalyzerService.Iface {
     }
 
     /**
-     * getSentiments service - handles the entire job - map, sort and return.
+     * getSentiments service - handles the entire job - map, sort and return, blocking
+     * until it is done.
      * @param fileNames input filenames to score
      * @return output filename containing sorted list by scores
      * @throws TException
      */
     @Override
     public String getSentiments(List<String> fileNames) throws TException {
+        System.out.printf("[TID: %d] Call to getSentiments().\n", Thread.currentThread().getId());
+        Job job = startJob(fileNames);
         try {
-            intermediateFiles = new ArrayList<>();
-            mapTasksCount = fileNames.size();
-            mapTasksComplete = 0;
-            System.out.printf("[TID: %d] Call to getSentiments().\nSplitting into %d Map Tasks.\n",
-                    Thread.currentThread().getId(), mapTasksCount);
+            return job.awaitOutput();
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        } finally {
+            jobs.remove(job.getJobId());
+        }
+        return null;
+    }
+
+    /**
+     * submitJob service - start a job in the background, its progress can be polled with
+     * getJobStatus and its output fetched with getJobResult.
+     * @param fileNames input filenames to score
+     * @return job id
+     * @throws TException
+     */
+    @Override
+    public String submitJob(List<String> fileNames) throws TException {
+        Job job = startJob(fileNames);
+        System.out.printf("[TID: %d] Call to submitJob(). Job: %s\n", Thread.currentThread().getId(), job.getJobId());
+        return job.getJobId();
+    }
+
+    /**
+     * getJobStatus service - cheap progress poll for a submitted job.
+     * @param jobId job id returned by submitJob
+     * @return phase and map task progress, phase UNKNOWN if there is no such job
+     * @throws TException
+     */
+    @Override
+    public JobStatus getJobStatus(String jobId) throws TException {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            return new JobStatus(jobId, "UNKNOWN", 0, 0);
+        }
+        return job.getStatus();
+    }
+
+    /**
+     * getJobResult service - fetch the output of a finished job. the job is forgotten
+     * once its result has been fetched, or jobTtl ms after it finished.
+     * @param jobId job id returned by submitJob
+     * @return output filename, empty if the job is still running, failed or unknown
+     * @throws TException
+     */
+    @Override
+    public String getJobResult(String jobId) throws TException {
+        Job job = jobs.get(jobId);
+        if (job == null || !job.isFinished()) {
+            return "";
+        }
+        jobs.remove(jobId);
+        String outputFileName = job.getOutputFileName();
+        return outputFileName != null ? outputFileName : "";
+    }
+
+    /**
+     * register a new job and run it on a coordinator thread.
+     * several jobs can run at the same time, each keeps its own state under its job id.
+     * a finished job is dropped after jobTtl ms if nobody fetched its result, 0 keeps it.
+     * @param fileNames input filenames to score
+     * @return the submitted job
+     */
+    private Job startJob(List<String> fileNames) {
+        Job job = new Job(UUID.randomUUID().toString());
+        jobs.put(job.getJobId(), job);
+        coordinators.execute(() -> {
+            job.finish(runJob(job, fileNames));
+            if (jobTtl > 0) {
+                expiry.schedule(() -> {
+                    if (jobs.remove(job.getJobId()) != null) {
+                        System.out.printf("Job %s: result not fetched within %d ms, expired.\n", job.getJobId(), jobTtl);
+                    }
+                }, jobTtl, TimeUnit.MILLISECONDS);
+            }
+        });
+        return job;
+    }
+
+    /**
+     * run the entire job - map, sort and return. a map task that has not returned within
+     * taskTimeout of being dispatched is dispatched again, the job fails once a task has
+     * been dispatched again maxRedispatch times and still times out.
+     * with speculation the stragglers are checked for every speculationInterval.
+     * @param job job to run
+     * @param fileNames input filenames to score
+     * @return output filename containing sorted list by scores, null if the job failed
+     */
+    private String runJob(Job job, List<String> fileNames) {
+        try {
+            List<InputSplit> splits = createSplits(fileNames);
+            job.startMapping(splits);
+            System.out.printf("[TID: %d] Job: %s\nSplitting into %d Map Tasks.\n",
+                    Thread.currentThread().getId(), job.getJobId(), job.getMapTasksCount());
             Instant start = Instant.now();
-            runMapTasks(fileNames);
-            // wait until all map tasks have completed
-            synchronized (this) {
-                try {
-                    System.out.println("Waiting for all Map Tasks to complete...");
-                    while (mapTasksComplete < mapTasksCount) {
-                        wait();
+            if (!runMapTasks(job, orderSplits(splits))) {
+                return null;
+            }
+            // wait until all map tasks have completed, speculating on stragglers and
+            // re-dispatching those that time out
+            System.out.printf("Job %s: Waiting for all Map Tasks to complete...\n", job.getJobId());
+            while (!job.awaitMapTasks(Math.max(1, Math.min(speculationInterval, taskTimeout)))) {
+                if (speculation) {
+                    runSpeculativeTasks(job);
+                }
+                List<InputSplit> timedOut = job.getTimedOutTasks(taskTimeout);
+                if (timedOut.isEmpty()) {
+                    continue;
+                }
+                for (InputSplit split : timedOut) {
+                    if (job.getTimeouts(split.getTaskId()) > maxRedispatch) {
+                        System.out.printf("Job %s: Map Task(%s @%d) timed out after %d re-dispatches, giving up.\n",
+                                job.getJobId(), split.getFileName(), split.getOffset(), maxRedispatch);
+                        return null;
                     }
-                    System.out.println("All Map Tasks Completed! Proceeding to the Sort Task.");
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
+                }
+                System.out.printf("Job %s: %d Map Tasks timed out, dispatching again.\n", job.getJobId(),
+                        timedOut.size());
+                if (!runMapTasks(job, timedOut)) {
+                    return null;
                 }
             }
+            System.out.printf("Job %s: All Map Tasks Completed! %d speculative copies, %d duplicate results ignored. Proceeding to the Sort Task.\n",
+                    job.getJobId(), job.getSpeculated(), job.getDuplicates());
+            System.out.printf("Job %s: Result Cache hits %d/%d Map Tasks (%.1f%%).\n", job.getJobId(), job.getCached(),
+                    job.getMapTasksCount(), job.getMapTasksCount() > 0 ? 100.0 * job.getCached() / job.getMapTasksCount() : 0.0);
             // perform sorting
-            String outputFileName = runSortTask();
+            job.startSorting();
+            String outputFileName = runSortTask(job);
             Instant end = Instant.now();
-            String timeTaken = String.format("Total Time Taken: %d ms.\n", Duration.between(start, end).toMillis());
-            System.out.println("Completed Sentiment Analysis Job! " + timeTaken);
+            String timeTaken = String.format("Map Makespan: %d ms.\nTotal Time Taken: %d ms.\n",
+                    job.getMapMakespan(), Duration.between(start, end).toMillis());
+            System.out.printf("Completed Sentiment Analysis Job %s! %s\n", job.getJobId(), timeTaken);
+            System.out.printf("Compute Node Connection Pool: %s\n", computePool.getStats());
 
             // sppend total runtime of job to output file
             Files.write(Paths.get(Objects.requireNonNull(outputFileName)), timeTaken.getBytes(), StandardOpenOption.APPEND);
@@ -85,19 +266,15 @@ public class SentimentHandler implements SentimentAnalyzerService.Iface {
 
     /**
      * calls sort service on a designated compute node
+     * @param job job whose map results to sort
      * @return output filename
      */
-    private String runSortTask() {
+    private String runSortTask(Job job) {
         try {
             String computeNodeAddress = computeNodes.get(Integer.valueOf(prop.getProperty("sortnode.index")));
-            //Create client connect.
-            TTransport transport = new TSocket(computeNodeAddress, computeNodePort);
-            transport.open();
-            ComputeService.Client client = new ComputeService.Client(new TBinaryProtocol(transport));
             System.out.printf("Launching Sort Task on %s.\n", computeNodeAddress);
-            String outputFileName = client.sortTask(intermediateFiles);
-            transport.close();
-            return outputFileName;
+            return computePool.callOnce(computeNodeAddress, client -> client.sortTask(job.getJobId(),
+                    job.getIntermediateFiles(), job.getResults(), sortLimit));
         } catch (TException e) {
             e.printStackTrace();
         }
@@ -106,58 +283,443 @@ public class SentimentHandler implements SentimentAnalyzerService.Iface {
 
     /**
      * returnSentimentResult service - serves as a return RPC call for compute node to send back
-     * sentiment score results to the server
-     * @param fileName intermediate filename
+     * sentiment count results to the server, either inline or naming an intermediate file
+     * @param jobId job the map task belongs to
+     * @param result map result
+     * @throws TException
+     */
+    @Override
+    public void returnSentimentResult(String jobId, SentimentResult result) throws TException {
+        returnSentimentResults(jobId, Collections.singletonList(result));
+    }
+
+    /**
+     * returnSentimentResults service - batched form of returnSentimentResult, compute nodes
+     * send the results of several map tasks of a job in one call. if load aware the slot
+     * each task held on its node is freed
+     * @param jobId job the map tasks belong to
+     * @param results map results
      * @throws TException
      */
     @Override
-    public synchronized void returnSentimentResult(String fileName) throws TException {
-        mapTasksComplete += 1;
-        intermediateFiles.add(fileName);
-        System.out.printf("[TID: %d] (%d/%d) Map Task Complete: %s\n", Thread.currentThread().getId(),
-                mapTasksComplete, mapTasksCount, fileName);
-        if (mapTasksComplete.equals(mapTasksCount)) {
-            // if all map tasks complete, notify waiting thread
-            notify();
+    public void returnSentimentResults(String jobId, List<SentimentResult> results) throws TException {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            System.out.printf("[TID: %d] Dropping %d Map Task results for unknown Job %s\n",
+                    Thread.currentThread().getId(), results.size(), jobId);
+            return;
         }
+        if (loadTracker != null) {
+            for (SentimentResult result : results) {
+                String computeNodeAddress = job.takeDispatchedNode(result.getTaskId());
+                if (computeNodeAddress != null) {
+                    loadTracker.complete(computeNodeAddress);
+                }
+            }
+        }
+        Integer mapTasksComplete = job.addResults(results);
+        System.out.printf("[TID: %d] Job %s (%d/%d) %d Map Tasks Complete\n", Thread.currentThread().getId(),
+                jobId, mapTasksComplete, job.getMapTasksCount(), results.size());
     }
 
     /**
-     * split the job into several tasks, assigning compute nodes at random
-     * if task is rejected try again until accepted. invoke maptask on chosen nodes.
+     * fetchTasks service - a compute node with free slots takes up to maxTasks map tasks from
+     * the central queue, so faster nodes take more of the work. if the queue is empty the
+     * call waits up to pullWait ms for tasks to arrive. tasks of finished jobs and tasks
+     * already completed by another copy are dropped.
+     * @param nodeId id of the compute node
+     * @param maxTasks free slots on the node
+     * @return map tasks to run, empty if none arrived in time
+     * @throws TException
+     */
+    @Override
+    public List<MapTask> fetchTasks(String nodeId, int maxTasks) throws TException {
+        List<MapTask> tasks = new ArrayList<>();
+        try {
+            MapTask task = taskQueue.pollFirst(pullWait, TimeUnit.MILLISECONDS);
+            while (task != null) {
+                Job job = jobs.get(task.getJobId());
+                if (job != null && !job.isFinished() && !job.isComplete(task.getSplit().getTaskId())) {
+                    job.markDispatched(task.getSplit().getTaskId(), nodeId, System.currentTimeMillis());
+                    tasks.add(task);
+                }
+                task = tasks.size() < maxTasks ? taskQueue.pollFirst() : null;
+            }
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+        if (!tasks.isEmpty()) {
+            System.out.printf("[TID: %d] Call to fetchTasks(%s, %d), %d Map Tasks fetched. %d queued.\n",
+                    Thread.currentThread().getId(), nodeId, maxTasks, tasks.size(), taskQueue.size());
+        }
+        return tasks;
+    }
+
+    /**
+     * break each input file into byte ranges of at most splitSize bytes, one per map task.
+     * the compute nodes move the edges onto word boundaries. a split size of 0 keeps
+     * one task per file. the task id of a split is its index.
      * @param fileNames input filenames
+     * @return input splits
+     * @throws IOException
      */
-    private void runMapTasks(List<String> fileNames) {
-        // one task per file
+    private List<InputSplit> createSplits(List<String> fileNames) throws IOException {
+        List<InputSplit> splits = new ArrayList<>();
         for (String fileName : fileNames) {
-            boolean accepted = false;
-            while (!accepted) {
+            long size = Files.size(Paths.get(fileName));
+            if (splitSize <= 0 || size <= splitSize) {
+                splits.add(new InputSplit(fileName, 0, size, splits.size()));
+                continue;
+            }
+            for (long offset = 0; offset < size; offset += splitSize) {
+                splits.add(new InputSplit(fileName, offset, Math.min(splitSize, size - offset), splits.size()));
+            }
+        }
+        return splits;
+    }
+
+    /**
+     * order the map tasks for dispatch. with LARGEST_FIRST the biggest splits are sent first,
+     * so a large file does not start last and hold up the end of the map phase.
+     * @param splits input splits, in task id order
+     * @return input splits in dispatch order
+     */
+    private List<InputSplit> orderSplits(List<InputSplit> splits) {
+        if (dispatchOrder == DispatchOrder.INPUT) {
+            return splits;
+        }
+        List<InputSplit> ordered = new ArrayList<>(splits);
+        ordered.sort(Comparator.comparingLong(InputSplit::getLength).reversed());
+        return ordered;
+    }
+
+    /**
+     * split the job into several tasks, assigning compute nodes at random
+     * tasks are sent in batches of up to batchSize, a node accepts as many as it has room for
+     * and the rest are tried again on another node until accepted.
+     * if load aware the node is picked from the reported loads instead and only sent as many
+     * tasks as it has free slots, waiting for the cluster to drain when every node is full.
+     * with parallel dispatch every compute node gets its own lane instead, and with bin
+     * packing every lane only sends the tasks packed onto its node.
+     * a node whose calls fail maxFailures times in a row is given up on, if no node can be
+     * reached the tasks left are not dispatched.
+     * if pulling the tasks are only queued, the compute nodes fetch them when they have room.
+     * @param job job the splits belong to
+     * @param splits input splits
+     * @return true if every task was dispatched
+     */
+    private boolean runMapTasks(Job job, List<InputSplit> splits) {
+        if (scheduler == ComputeHandler.Scheduler.PULL) {
+            for (InputSplit split : splits) {
+                taskQueue.addLast(new MapTask(job.getJobId(), split));
+            }
+            System.out.printf("Queued %d Map Tasks for the compute nodes to fetch.\n", splits.size());
+            return true;
+        }
+        List<InputSplit> undispatched;
+        if (binPacking) {
+            undispatched = runMapTasksPacked(job, splits);
+        } else if (parallelDispatch) {
+            undispatched = runMapTasksParallel(job, splits);
+        } else {
+            undispatched = runMapTasksSequential(job, splits);
+        }
+        if (!undispatched.isEmpty()) {
+            System.out.printf("Job %s: %d Map Tasks could not be dispatched, no Compute Node reachable.\n",
+                    job.getJobId(), undispatched.size());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * dispatch the tasks one batch at a time, to a random node or if load aware the node
+     * expected to start them soonest.
+     * @param job job the splits belong to
+     * @param splits input splits
+     * @return tasks not dispatched
+     */
+    private List<InputSplit> runMapTasksSequential(Job job, List<InputSplit> splits) {
+        // one task per split
+        Deque<InputSplit> pending = new ArrayDeque<>(splits);
+        int failures = 0;
+        while (!pending.isEmpty()) {
+            int accepted;
+            if (loadTracker != null) {
+                String computeNodeAddress = loadTracker.chooseNode();
+                int slots = computeNodeAddress == null ? 0
+                        : loadTracker.reserve(computeNodeAddress, Math.min(batchSize, pending.size()));
+                if (slots > 0) {
+                    accepted = dispatchBatch(job, computeNodeAddress, pending, slots);
+                } else {
+                    // every node full, or none reachable
+                    accepted = computeNodes.stream().anyMatch(loadTracker::isReachable) ? 0 : -1;
+                }
+            } else {
+                // choose a compute node at random
+                accepted = dispatchBatch(job, getRandomComputeNode(), pending, batchSize);
+            }
+            if (accepted >= 0) {
+                failures = 0;
+            } else if (++failures >= maxFailures * computeNodes.size()) {
+                return new ArrayList<>(pending);
+            }
+            if (accepted <= 0 && !backoff()) {
+                return new ArrayList<>(pending);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * dispatch the tasks over one lane per compute node. each lane keeps up to inFlight
+     * batch calls going to its node at once, taking tasks from a queue shared by all lanes,
+     * so faster nodes take more tasks and a slow call only holds up its own lane.
+     * the lanes of a node that cannot be reached stop and leave its tasks to the others.
+     * @param job job the splits belong to
+     * @param splits input splits
+     * @return tasks not dispatched, left once every lane has stopped
+     */
+    private List<InputSplit> runMapTasksParallel(Job job, List<InputSplit> splits) {
+        Deque<InputSplit> pending = new ConcurrentLinkedDeque<>(splits);
+        // tasks not accepted by a node yet, including those in a batch call
+        AtomicInteger unassigned = new AtomicInteger(splits.size());
+        List<Future<Boolean>> lanes = new ArrayList<>();
+        for (String computeNodeAddress : computeNodes) {
+            lanes.addAll(startLanes(job, computeNodeAddress, pending, unassigned));
+        }
+        awaitLanes(lanes);
+        return new ArrayList<>(pending);
+    }
+
+    /**
+     * pack the tasks onto the compute nodes by byte count, largest first onto the node with
+     * the fewest bytes so far, then dispatch every node its own tasks over its lanes,
+     * largest first. the tasks of a node that cannot be reached are packed again onto the
+     * nodes that can.
+     * @param job job the splits belong to
+     * @param splits input splits
+     * @return tasks not dispatched, once no node is left to pack them onto
+     */
+    private List<InputSplit> runMapTasksPacked(Job job, List<InputSplit> splits) {
+        List<String> reachable = new ArrayList<>(computeNodes);
+        List<InputSplit> remaining = splits;
+        while (!remaining.isEmpty() && !reachable.isEmpty()) {
+            Map<String, List<InputSplit>> bins = packSplits(remaining, reachable);
+            Map<String, Deque<InputSplit>> pending = new HashMap<>();
+            Map<String, List<Future<Boolean>>> lanes = new LinkedHashMap<>();
+            for (Map.Entry<String, List<InputSplit>> bin : bins.entrySet()) {
+                pending.put(bin.getKey(), new ConcurrentLinkedDeque<>(bin.getValue()));
+                lanes.put(bin.getKey(), startLanes(job, bin.getKey(), pending.get(bin.getKey()),
+                        new AtomicInteger(bin.getValue().size())));
+            }
+            remaining = new ArrayList<>();
+            for (Map.Entry<String, List<Future<Boolean>>> nodeLanes : lanes.entrySet()) {
+                if (!awaitLanes(nodeLanes.getValue())) {
+                    reachable.remove(nodeLanes.getKey());
+                    remaining.addAll(pending.get(nodeLanes.getKey()));
+                }
+            }
+            if (!remaining.isEmpty() && !reachable.isEmpty()) {
+                System.out.printf("Packing %d Map Tasks again onto the %d reachable Compute Nodes.\n",
+                        remaining.size(), reachable.size());
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * @param splits input splits
+     * @param computeNodeAddresses hostnames of the nodes to pack onto
+     * @return tasks of every node, largest first
+     */
+    private Map<String, List<InputSplit>> packSplits(List<InputSplit> splits, List<String> computeNodeAddresses) {
+        Map<String, List<InputSplit>> bins = new LinkedHashMap<>();
+        Map<String, Long> binBytes = new HashMap<>();
+        for (String computeNodeAddress : computeNodeAddresses) {
+            bins.put(computeNodeAddress, new ArrayList<>());
+            binBytes.put(computeNodeAddress, 0L);
+        }
+        List<InputSplit> largestFirst = new ArrayList<>(splits);
+        largestFirst.sort(Comparator.comparingLong(InputSplit::getLength).reversed());
+        for (InputSplit split : largestFirst) {
+            String computeNodeAddress = Collections.min(binBytes.entrySet(), Map.Entry.comparingByValue()).getKey();
+            bins.get(computeNodeAddress).add(split);
+            binBytes.merge(computeNodeAddress, split.getLength(), Long::sum);
+        }
+        System.out.printf("Packed %d Map Tasks onto %d Compute Nodes: %s bytes\n", splits.size(), bins.size(), binBytes);
+        return bins;
+    }
+
+    /**
+     * start inFlight dispatch lanes to one compute node, taking tasks from pending until
+     * every task counted in unassigned has been accepted by one of the lanes sharing it.
+     * if load aware a lane only takes as many tasks as its node has free slots.
+     * a lane stops early once maxFailures calls in a row have failed.
+     * @param job job the splits belong to
+     * @param computeNodeAddress hostname of the node
+     * @param pending tasks not accepted yet
+     * @param unassigned count of tasks not accepted yet, including those in a batch call
+     * @return the lanes, each true once done or false if it stopped early
+     */
+    private List<Future<Boolean>> startLanes(Job job, String computeNodeAddress, Deque<InputSplit> pending,
+                                             AtomicInteger unassigned) {
+        List<Future<Boolean>> lanes = new ArrayList<>();
+        for (int i = 0; i < inFlight; i++) {
+            lanes.add(coordinators.submit(() -> {
+                int failures = 0;
+                while (unassigned.get() > 0) {
+                    int slots = loadTracker != null ? loadTracker.reserve(computeNodeAddress, batchSize) : batchSize;
+                    int accepted;
+                    if (slots > 0) {
+                        accepted = dispatchBatch(job, computeNodeAddress, pending, slots);
+                    } else {
+                        accepted = loadTracker.isReachable(computeNodeAddress) ? 0 : -1;
+                    }
+                    if (accepted >= 0) {
+                        failures = 0;
+                        unassigned.addAndGet(-accepted);
+                    } else if (++failures >= maxFailures) {
+                        System.out.printf("Giving up on %s after %d failed calls.\n", computeNodeAddress, failures);
+                        return false;
+                    }
+                    if (accepted <= 0 && unassigned.get() > 0 && !backoff()) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+        return lanes;
+    }
+
+    /**
+     * wait for every dispatch lane to finish.
+     * @param lanes dispatch lanes
+     * @return true if none of the lanes stopped early
+     */
+    private boolean awaitLanes(List<Future<Boolean>> lanes) {
+        boolean done = true;
+        for (Future<Boolean> lane : lanes) {
+            try {
+                done &= lane.get();
+            } catch (Exception e) {
+                e.printStackTrace();
+                done = false;
+            }
+        }
+        return done;
+    }
+
+    /**
+     * send the next batch of pending tasks to a compute node. tasks it rejects go back to
+     * the front of the queue, in order, as does the whole batch if the call fails.
+     * @param job job the splits belong to
+     * @param computeNodeAddress hostname of the node
+     * @param pending tasks not accepted yet
+     * @param maxTasks max tasks in the batch, slots reserved on the node if load aware
+     * @return number of tasks accepted, -1 if the call failed
+     */
+    private int dispatchBatch(Job job, String computeNodeAddress, Deque<InputSplit> pending, int maxTasks) {
+        List<InputSplit> batch = new ArrayList<>();
+        InputSplit split;
+        while (batch.size() < maxTasks && (split = pending.pollFirst()) != null) {
+            batch.add(split);
+        }
+        if (loadTracker != null && batch.size() < maxTasks) {
+            loadTracker.release(computeNodeAddress, maxTasks - batch.size());
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<Integer> accepted = Collections.emptyList();
+        boolean failed = false;
+        // the node may start and even finish early tasks of the batch before the call returns
+        long sentAt = System.currentTimeMillis();
+        try {
+            accepted = computePool.callOnce(computeNodeAddress, client -> client.mapTasks(job.getJobId(), batch));
+            System.out.printf("Launching Map Tasks on %s: %d/%d accepted!\n", computeNodeAddress,
+                    accepted.size(), batch.size());
+        } catch (Exception e) {
+            System.out.printf("Could not launch Map Tasks on %s: %s\n", computeNodeAddress, e);
+            failed = true;
+        }
+        if (loadTracker != null && accepted.size() < batch.size()) {
+            loadTracker.release(computeNodeAddress, batch.size() - accepted.size());
+        }
+        Set<Integer> acceptedIndexes = new HashSet<>(accepted);
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            if (acceptedIndexes.contains(i)) {
+                job.markDispatched(batch.get(i).getTaskId(), computeNodeAddress, sentAt);
+            } else {
+                pending.addFirst(batch.get(i));
+            }
+        }
+        return failed ? -1 : accepted.size();
+    }
+
+    /**
+     * launch a copy of every straggling map task on another compute node, whichever copy
+     * returns first is kept and the later result is ignored as a duplicate. a copy is only
+     * offered to nodes with a free slot, it is not launched if every node is full.
+     * if pulling the copy goes to the front of the queue for the next node with room.
+     * @param job job to check for stragglers
+     */
+    private void runSpeculativeTasks(Job job) {
+        for (InputSplit split : job.getStragglers(speculationThreshold, speculationPercentile)) {
+            if (scheduler == ComputeHandler.Scheduler.PULL) {
+                taskQueue.addFirst(new MapTask(job.getJobId(), split));
+                continue;
+            }
+            List<String> candidates = new ArrayList<>(computeNodes);
+            if (candidates.size() > 1) {
+                candidates.remove(job.getAssignedNode(split.getTaskId()));
+            }
+            Collections.shuffle(candidates);
+            for (String computeNodeAddress : candidates) {
                 try {
-                    // choose a compute node at random
-                    String computeNodeAddress = getRandomComputeNode();
-                    //Create client connect.
-                    TTransport transport = new TSocket(computeNodeAddress, computeNodePort);
-                    transport.open();
-                    ComputeService.Client client = new ComputeService.Client(new TBinaryProtocol(transport));
-                    accepted = client.mapTask(fileName);
-                    System.out.printf("Launching Map Task(%s) on %s %s!\n", fileName,
-                            computeNodeAddress, accepted ? "succeeded" : "failed");
-                    transport.close();
+                    if (computePool.callOnce(computeNodeAddress, client -> client.offerMapTask(job.getJobId(), split))) {
+                        System.out.printf("Launching Speculative Map Task(%s @%d) on %s succeeded!\n",
+                                split.getFileName(), split.getOffset(), computeNodeAddress);
+                        break;
+                    }
                 } catch (Exception e) {
                     e.printStackTrace();
-                    accepted = false;
                 }
             }
         }
     }
 
+    /**
+     * the node was full, give the cluster a moment before trying again
+     * @return false if interrupted
+     */
+    private boolean backoff() {
+        if (retryBackoff <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(retryBackoff);
+            return true;
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
     /**
      * does exactly as the name says - pick a random compute node for map tasks.
      * @return hostname of chosen node
      */
     private String getRandomComputeNode() {
-        Random rand = new Random();
-        int mapNodeIndex = rand.nextInt(computeNodes.size());
+        int mapNodeIndex = ThreadLocalRandom.current().nextInt(computeNodes.size());
         return computeNodes.get(mapNodeIndex);
     }
+
+    /**
+     * Order map tasks are dispatched in - as the INPUT files were listed, or LARGEST_FIRST
+     */
+    enum DispatchOrder {
+        INPUT, LARGEST_FIRST
+    }
 }
@@ -0,0 +1,176 @@
+import java.nio.ByteBuffer;
+
+public class SentimentScanner {
+    private final Lexicon lexicon;
+    // lexicon state of the current token, lowercased
+    private int tokenState;
+    private boolean inToken;
+    // run of '-' not yet known to be part of a token or a "--" separator
+    private int pendingHyphens;
+    // progress through a multi-byte sequence whose lowercase form is an ascii letter
+    private int foldState;
+    private long numPos;
+    private long numNeg;
+    private long numTokens;
+
+    /**
+     * Constructor - Scans raw UTF-8 bytes and counts vocabulary words the same way as
+     * lowercasing the text, replacing "--" with a space and matching ([a-zA-Z\-]+), but
+     * without decoding the input or allocating a String per token. Input may be fed in
+     * several chunks, tokens spanning chunk edges are handled.
+     *
+     * @param lexicon compiled positive and negative vocab
+     */
+    SentimentScanner(Lexicon lexicon) {
+        this.lexicon = lexicon;
+        tokenState = Lexicon.START;
+    }
+
+    /**
+     * scan the next chunk of input.
+     *
+     * @param bytes input buffer
+     * @param offset start of the chunk
+     * @param length chunk length
+     */
+    void update(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            next(bytes[i]);
+        }
+    }
+
+    /**
+     * scan the remaining bytes of a buffer, eg. a memory mapped window of the input file.
+     * the buffer's position is moved to its limit.
+     *
+     * @param buffer input buffer
+     */
+    void update(ByteBuffer buffer) {
+        int end = buffer.limit();
+        for (int i = buffer.position(); i < end; i++) {
+            next(buffer.get(i));
+        }
+        buffer.position(end);
+    }
+
+    /**
+     * flush the last token once the whole input has been fed.
+     */
+    void finish() {
+        separator();
+    }
+
+    /**
+     * after a boundary byte the scanner is back in its initial state no matter what came
+     * before it, so input may be cut right after one without changing any counts.
+     *
+     * @param b input byte
+     * @return true for ascii bytes that are neither letters nor '-'
+     */
+    static boolean isBoundary(byte b) {
+        return b >= 0 && b != '-' && !(b >= 'a' && b <= 'z') && !(b >= 'A' && b <= 'Z');
+    }
+
+    /**
+     * @return counts of everything scanned so far
+     */
+    SentimentCounts getCounts() {
+        return new SentimentCounts(numPos, numNeg, numTokens);
+    }
+
+    private void next(byte b) {
+        if (b >= 'a' && b <= 'z') {
+            letter(b);
+        } else if (b >= 'A' && b <= 'Z') {
+            letter((byte) (b | 0x20));
+        } else if (b == '-') {
+            if (foldState != 0) {
+                separator();
+            }
+            pendingHyphens++;
+        } else if (b < 0) {
+            nonAscii(b);
+        } else {
+            separator();
+        }
+    }
+
+    private void letter(byte b) {
+        if (foldState != 0) {
+            // an unfinished multi-byte sequence is a non-letter character
+            separator();
+        }
+        resolveHyphens();
+        append(b);
+    }
+
+    private void separator() {
+        foldState = 0;
+        resolveHyphens();
+        endToken();
+    }
+
+    /**
+     * "--" pairs are replaced left to right, so an even run only separates words
+     * and an odd run leaves a single '-' in front of whatever follows.
+     */
+    private void resolveHyphens() {
+        if (pendingHyphens == 0) {
+            return;
+        }
+        if (pendingHyphens > 1) {
+            endToken();
+        }
+        if ((pendingHyphens & 1) == 1) {
+            append((byte) '-');
+        }
+        pendingHyphens = 0;
+    }
+
+    /**
+     * only two code points lowercase to ascii letters: U+0130 (C4 B0) to "i" + U+0307,
+     * which ends the token right after the 'i', and U+212A (E2 84 AA) to 'k'.
+     * everything else outside ascii breaks a token.
+     */
+    private void nonAscii(byte b) {
+        if (foldState == 1 && b == (byte) 0xB0) {
+            foldState = 0;
+            letter((byte) 'i');
+            separator();
+        } else if (foldState == 2 && b == (byte) 0x84) {
+            foldState = 3;
+        } else if (foldState == 3 && b == (byte) 0xAA) {
+            foldState = 0;
+            letter((byte) 'k');
+        } else if (b == (byte) 0xC4 || b == (byte) 0xE2) {
+            // may still continue the current token, decide on the next byte
+            if (foldState != 0) {
+                separator();
+            }
+            foldState = b == (byte) 0xC4 ? 1 : 2;
+        } else {
+            separator();
+        }
+    }
+
+    private void append(byte b) {
+        tokenState = lexicon.next(tokenState, b);
+        inToken = true;
+    }
+
+    private void endToken() {
+        if (inToken) {
+            numTokens += 1;
+            int polarity = lexicon.getPolarity(tokenState);
+            if ((polarity & Lexicon.POSITIVE) != 0) {
+                numPos += 1;
+            }
+            if ((polarity & Lexicon.NEGATIVE) != 0) {
+                numNeg += 1;
+            }
+        }
+        tokenState = Lexicon.START;
+        inToken = false;
+    }
+}
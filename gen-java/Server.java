@@ -1,7 +1,4 @@
 import org.apache.thrift.server.TServer;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
-import org.apache.thrift.transport.TServerTransport;
 
 import java.io.FileInputStream;
 import java.io.InputStream;
@@ -20,22 +17,20 @@ public class Server {
             handler = new SentimentHandler(prop);
             processor = new SentimentAnalyzerService.Processor<>(handler);
 
-            startThreadPoolServer();
+            startServer();
         } catch (Exception x) {
             x.printStackTrace();
         }
     }
 
-    private static void startThreadPoolServer() {
+    private static void startServer() {
         try {
-            // Create Thrift server socket as a thread pool
+            // Create Thrift server of the configured type
             Integer serverPort = Integer.valueOf(prop.getProperty("server.port"));
-            TServerTransport serverTransport = new TServerSocket(serverPort);
-            TThreadPoolServer.Args args = new TThreadPoolServer.Args(serverTransport);
-            args.processor(processor);
-            TServer server = new TThreadPoolServer(args);
+            RpcSettings rpc = RpcSettings.fromConfig(prop);
+            TServer server = rpc.newServer(processor, serverPort);
 
-            System.out.println("Starting the SentimentAnalyzer Server...");
+            System.out.printf("Starting the SentimentAnalyzer Server (%s)...\n", rpc);
             server.serve();
         } catch (Exception e) {
             e.printStackTrace();
@@ -0,0 +1,57 @@
+import java.util.*;
+
+public class TopScores {
+    private final int limit;
+    // min heap of the highest scores and max heap of the lowest, each at most limit long
+    private final PriorityQueue<Map.Entry<String, Float>> top;
+    private final PriorityQueue<Map.Entry<String, Float>> bottom;
+
+    /**
+     * Constructor - Keeps only the limit highest and limit lowest scores seen, so the
+     * memory used does not grow with the number of files scored.
+     *
+     * @param limit number of files to keep at each end
+     */
+    TopScores(int limit) {
+        this.limit = limit;
+        top = new PriorityQueue<>(limit + 1, Map.Entry.comparingByValue());
+        bottom = new PriorityQueue<>(limit + 1, Map.Entry.comparingByValue(Comparator.reverseOrder()));
+    }
+
+    /**
+     * offer the score of one file.
+     *
+     * @param fileName input filename
+     * @param score sentiment score
+     */
+    void add(String fileName, float score) {
+        Map.Entry<String, Float> entry = new AbstractMap.SimpleImmutableEntry<>(fileName, score);
+        top.add(entry);
+        if (top.size() > limit) {
+            top.poll();
+        }
+        bottom.add(entry);
+        if (bottom.size() > limit) {
+            bottom.poll();
+        }
+    }
+
+    /**
+     * @return highest scores followed by the lowest, in descending order. a file that is
+     * in both ends when there are fewer than 2 * limit files is only listed once
+     */
+    List<Map.Entry<String, Float>> getSorted() {
+        List<Map.Entry<String, Float>> sorted = new ArrayList<>(top);
+        sorted.sort(Map.Entry.comparingByValue(Comparator.reverseOrder()));
+        Set<Map.Entry<String, Float>> listed = Collections.newSetFromMap(new IdentityHashMap<>());
+        listed.addAll(sorted);
+        List<Map.Entry<String, Float>> lowest = new ArrayList<>(bottom);
+        lowest.sort(Map.Entry.comparingByValue(Comparator.reverseOrder()));
+        for (Map.Entry<String, Float> entry : lowest) {
+            if (!listed.contains(entry)) {
+                sorted.add(entry);
+            }
+        }
+        return sorted;
+    }
+}
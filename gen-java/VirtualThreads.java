@@ -0,0 +1,39 @@
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * check the threads.virtual config switch.
+     *
+     * @param enabled value of threads.virtual
+     * @return true if virtual threads were asked for and this jvm has them
+     */
+    static boolean isEnabled(String enabled) {
+        if (!Boolean.parseBoolean(enabled)) {
+            return false;
+        }
+        if (newExecutor() == null) {
+            System.out.println("Virtual threads need Java 21+, using platform threads.");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * executor starting a new virtual thread per task. looked up reflectively so the
+     * project still builds and runs on older jdks.
+     *
+     * @return virtual thread per task executor, null if not supported
+     */
+    static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}